@@ -0,0 +1,141 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import schedules.SchedulingHelper;
+import schedules.data.DailyScheduleData;
+import schedules.data.LocationData;
+import schedules.data.SchedulingOptionsData;
+
+/**
+ * Benchmark of the extract the list scheduled daily maintenances based on a maximum number of equipments per day, comparing the selection of the locations by a max-heap with the sort of the locations for each day
+ */
+public class BenchmarkSchedulingMaxNumberOfEquipementsPerDay {
+	/** Number of locations to generate **/
+	private static final int LOCATIONS_COUNT = 5000;
+
+	/** Maximum number of equipments per day **/
+	private static final int MAX_NUMBER_EQUIPMENTS_PER_DAY = 200;
+
+	/** Seed of the generated locations **/
+	private static final long SEED = 20250101L;
+
+	/** Number of warm-up runs for each mode **/
+	private static final int WARMUP_RUNS = 3;
+
+	/** Number of measured runs for each mode **/
+	private static final int MEASURED_RUNS = 5;
+
+	public static void main(String[] args) {
+		List<String> techniciansList = new ArrayList<>();
+		techniciansList.add("T1");
+		techniciansList.add("T2");
+		techniciansList.add("T3");
+
+		Date startDate = new Date();
+
+		SchedulingOptionsData sortedListOptions = new SchedulingOptionsData();
+		sortedListOptions.setLocationPriorityHeap(false);
+
+		SchedulingOptionsData priorityHeapOptions = new SchedulingOptionsData();
+		priorityHeapOptions.setLocationPriorityHeap(true);
+
+		List<DailyScheduleData> sortedListScheduleList = null;
+		List<DailyScheduleData> priorityHeapScheduleList = null;
+
+		long sortedListNanos = 0;
+		long priorityHeapNanos = 0;
+
+		for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+			List<LocationData> locationsList = generateLocationsList();
+
+			long start = System.nanoTime();
+			sortedListScheduleList = SchedulingHelper.extractScheduleMaxNumberOfEquipmentsPerDay(MAX_NUMBER_EQUIPMENTS_PER_DAY, null, startDate, locationsList, techniciansList, null, sortedListOptions);
+			long sortedListRunNanos = System.nanoTime() - start;
+
+			locationsList = generateLocationsList();
+
+			start = System.nanoTime();
+			priorityHeapScheduleList = SchedulingHelper.extractScheduleMaxNumberOfEquipmentsPerDay(MAX_NUMBER_EQUIPMENTS_PER_DAY, null, startDate, locationsList, techniciansList, null, priorityHeapOptions);
+			long priorityHeapRunNanos = System.nanoTime() - start;
+
+			if (run >= WARMUP_RUNS) {
+				sortedListNanos += sortedListRunNanos;
+				priorityHeapNanos += priorityHeapRunNanos;
+			}
+		}
+
+		System.out.println("Locations: " + LOCATIONS_COUNT + ", days: " + priorityHeapScheduleList.size());
+		System.out.println("Sorted list average time (ms): " + (sortedListNanos / MEASURED_RUNS / 1_000_000.0));
+		System.out.println("Priority heap average time (ms): " + (priorityHeapNanos / MEASURED_RUNS / 1_000_000.0));
+		System.out.println("Identical schedules: " + isSameScheduleList(sortedListScheduleList, priorityHeapScheduleList));
+	}
+
+	private static List<LocationData> generateLocationsList() {
+		Random random = new Random(SEED);
+
+		List<LocationData> locationsList = new ArrayList<>(LOCATIONS_COUNT);
+
+		for (int locationId = 1; locationId <= LOCATIONS_COUNT; locationId++) {
+			LocationData location = new LocationData(String.format("Loc-%d", locationId));
+
+			int onSitesCount = random.nextInt(11);
+			int subLocationsCount = random.nextInt(6);
+
+			for (int onSiteId = 1; onSiteId <= onSitesCount; onSiteId++) {
+				location.addOnSiteEquipment(String.format("E%02d", onSiteId));
+			}
+
+			for (int subLocationId = 1; subLocationId <= subLocationsCount; subLocationId++) {
+				int offSitesCount = 1 + random.nextInt(5);
+
+				for (int offSiteId = 1; offSiteId <= offSitesCount; offSiteId++) {
+					location.addOffSiteEquipmentToSublocation(String.format("Sub%d", subLocationId), String.format("E%02d-%d", offSiteId, subLocationId));
+				}
+			}
+
+			locationsList.add(location);
+		}
+
+		return locationsList;
+	}
+
+	private static boolean isSameScheduleList(List<DailyScheduleData> scheduleList, List<DailyScheduleData> otherScheduleList) {
+		if (scheduleList.size() != otherScheduleList.size()) {
+			return false;
+		}
+
+		for (int day = 0; day < scheduleList.size(); day++) {
+			Map<String, List<LocationData>> techniciansLocationsMap = scheduleList.get(day).getTechniciansLocationsMap();
+			Map<String, List<LocationData>> otherTechniciansLocationsMap = otherScheduleList.get(day).getTechniciansLocationsMap();
+
+			if (!techniciansLocationsMap.keySet().equals(otherTechniciansLocationsMap.keySet())) {
+				return false;
+			}
+
+			for (Map.Entry<String, List<LocationData>> technicianLocationsEntry : techniciansLocationsMap.entrySet()) {
+				List<LocationData> locations = technicianLocationsEntry.getValue();
+				List<LocationData> otherLocations = otherTechniciansLocationsMap.get(technicianLocationsEntry.getKey());
+
+				if (locations.size() != otherLocations.size()) {
+					return false;
+				}
+
+				for (int i = 0; i < locations.size(); i++) {
+					LocationData location = locations.get(i);
+					LocationData otherLocation = otherLocations.get(i);
+
+					if (!location.getLocationName().equals(otherLocation.getLocationName()) || !location.getOnSiteEquipmentsList().equals(otherLocation.getOnSiteEquipmentsList()) || !location.getOffSiteEquipmentsSublocationsMap().equals(otherLocation.getOffSiteEquipmentsSublocationsMap())) {
+						return false;
+					}
+				}
+			}
+		}
+
+		return true;
+	}
+}
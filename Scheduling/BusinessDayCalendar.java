@@ -0,0 +1,202 @@
+package schedules;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.function.LongPredicate;
+
+/**
+ * Calendar of the open business days from a start date, precomputed as an array of epoch days. The open days of week are a bitmask and the holidays are excluded.
+ * <p>
+ * The array of open days is extended by chunks as later days are requested, so an instance is not thread-safe.
+ */
+public class BusinessDayCalendar {
+	/** Number of open days computed each time the calendar is extended **/
+	private static final int CHUNK_SIZE = 256;
+
+	/** Maximum number of consecutive days without an open day, four years, before the filter of the open days is considered to never keep a day **/
+	private static final int MAX_CLOSED_DAYS = 4 * 366;
+
+	/** Bitmask of the default open days of week, from Monday to Friday **/
+	public static final int DEFAULT_DAYS_OF_WEEK_MASK = toDaysOfWeekMask(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY);
+
+	/** Bitmask of the open days of week, the bit (DayOfWeek.getValue() - 1) being set for an open day **/
+	private final int daysOfWeekMask;
+
+	/** Sorted epoch days of the holidays **/
+	private final long[] holidays;
+
+	/** Filter of the epoch days kept as open days, in addition to the days of week and holidays, may be null **/
+	private final LongPredicate openDayFilter;
+
+	/** Epoch days of the open days, sorted **/
+	private int[] openDays;
+
+	/** Number of computed open days **/
+	private int openDaysCount;
+
+	/** Next epoch day to examine when extending the calendar **/
+	private long nextEpochDay;
+
+	/**
+	 * Constructor
+	 * @param startDate Start date of the calendar
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK, Monday to Friday being used when empty
+	 * @param holidays Holidays to exclude, may be null
+	 */
+	public BusinessDayCalendar(LocalDate startDate, int[] openBusinessDays, Collection<LocalDate> holidays) {
+		this(startDate, toDaysOfWeekMask(openBusinessDays), holidays);
+	}
+
+	/**
+	 * Constructor
+	 * @param startDate Start date of the calendar
+	 * @param daysOfWeekMask Bitmask of the open days of week, the bit (DayOfWeek.getValue() - 1) being set for an open day
+	 * @param holidays Holidays to exclude, may be null
+	 */
+	public BusinessDayCalendar(LocalDate startDate, int daysOfWeekMask, Collection<LocalDate> holidays) {
+		this(startDate, daysOfWeekMask, holidays, null);
+	}
+
+	/**
+	 * Constructor
+	 * @param startDate Start date of the calendar
+	 * @param daysOfWeekMask Bitmask of the open days of week, the bit (DayOfWeek.getValue() - 1) being set for an open day
+	 * @param holidays Holidays to exclude, may be null
+	 * @param openDayFilter Filter of the epoch days kept as open days, in addition to the days of week and holidays, may be null
+	 * @throws IllegalArgumentException if there is no open day of week, or no open day in the first days of the calendar
+	 */
+	public BusinessDayCalendar(LocalDate startDate, int daysOfWeekMask, Collection<LocalDate> holidays, LongPredicate openDayFilter) {
+		if ((daysOfWeekMask & 0x7F) == 0) {
+			throw new IllegalArgumentException("No open day of week in mask " + daysOfWeekMask);
+		}
+
+		this.daysOfWeekMask = daysOfWeekMask & 0x7F;
+		this.holidays = (holidays == null) ? new long[0] : holidays.stream().mapToLong(LocalDate::toEpochDay).sorted().distinct().toArray();
+		this.openDayFilter = openDayFilter;
+		this.openDays = new int[CHUNK_SIZE];
+		this.openDaysCount = 0;
+		this.nextEpochDay = startDate.toEpochDay();
+
+		extend(CHUNK_SIZE);
+	}
+
+	/**
+	 * Converts a list of open business days to a bitmask of open days of week
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK, Monday to Friday being used when empty
+	 * @return the bitmask of the open days of week
+	 */
+	public static int toDaysOfWeekMask(int[] openBusinessDays) {
+		if (openBusinessDays == null || openBusinessDays.length == 0) {
+			return DEFAULT_DAYS_OF_WEEK_MASK;
+		}
+
+		int mask = 0;
+
+		for (int openDay : openBusinessDays) {
+			if ((openDay >= Calendar.SUNDAY) && (openDay <= Calendar.SATURDAY)) {
+				// java.util.Calendar starts the week on Sunday (1), java.time on Monday (1)
+				int dayOfWeek = (openDay == Calendar.SUNDAY) ? 7 : openDay - 1;
+
+				mask |= 1 << (dayOfWeek - 1);
+			}
+		}
+
+		return mask;
+	}
+
+	/**
+	 * Converts a list of open days of week to a bitmask
+	 * @param daysOfWeek Open days of week
+	 * @return the bitmask of the open days of week
+	 */
+	public static int toDaysOfWeekMask(DayOfWeek... daysOfWeek) {
+		int mask = 0;
+
+		for (DayOfWeek dayOfWeek : daysOfWeek) {
+			mask |= 1 << (dayOfWeek.getValue() - 1);
+		}
+
+		return mask;
+	}
+
+	/**
+	 * Indicates if an epoch day is an open business day, regardless of the start date of the calendar
+	 * @param epochDay Epoch day
+	 * @return true if the day of week is open, the day is not a holiday and the day is kept by the filter
+	 */
+	public boolean isOpenDay(long epochDay) {
+		// The epoch day 0 (1970-01-01) is a Thursday, the index 3 from Monday
+		int dayOfWeekIndex = (int) Math.floorMod(epochDay + 3, 7L);
+
+		return ((daysOfWeekMask & (1 << dayOfWeekIndex)) != 0) && (Arrays.binarySearch(holidays, epochDay) < 0) && ((openDayFilter == null) || openDayFilter.test(epochDay));
+	}
+
+	/**
+	 * Extracts the epoch day of an open business day
+	 * @param index Index of the open business day, 0 being the first open day from the start date
+	 * @return the epoch day
+	 * @throws IllegalArgumentException if there is no open day in the days examined to reach the index
+	 */
+	public int getOpenEpochDay(int index) {
+		if (index >= openDaysCount) {
+			extend(index + 1);
+		}
+
+		return openDays[index];
+	}
+
+	/**
+	 * Extracts the date of an open business day
+	 * @param index Index of the open business day, 0 being the first open day from the start date
+	 * @return the date
+	 */
+	public LocalDate getOpenDate(int index) {
+		return LocalDate.ofEpochDay(getOpenEpochDay(index));
+	}
+
+	/**
+	 * Extracts the index of an open business day
+	 * @param date Date of the open business day
+	 * @return the index of the open business day or -1 if the date is not an open business day of the calendar
+	 */
+	public int getOpenDayIndex(LocalDate date) {
+		long epochDay = date.toEpochDay();
+
+		while (nextEpochDay <= epochDay) {
+			extend(openDaysCount + CHUNK_SIZE);
+		}
+
+		int index = Arrays.binarySearch(openDays, 0, openDaysCount, (int) epochDay);
+
+		return (index >= 0) ? index : -1;
+	}
+
+	private void extend(int count) {
+		int targetCount = Math.max(count, openDaysCount + CHUNK_SIZE);
+
+		if (targetCount > openDays.length) {
+			openDays = Arrays.copyOf(openDays, Math.max(targetCount, openDays.length * 2));
+		}
+
+		long lastOpenEpochDay = nextEpochDay - 1;
+
+		while (openDaysCount < targetCount) {
+			if (isOpenDay(nextEpochDay)) {
+				openDays[openDaysCount++] = (int) nextEpochDay;
+				lastOpenEpochDay = nextEpochDay;
+			} else if (nextEpochDay - lastOpenEpochDay > MAX_CLOSED_DAYS) {
+				// The filter of the open days may reject every day, as when no technician is ever available
+				throw new IllegalArgumentException("No open business day in the " + MAX_CLOSED_DAYS + " days from " + LocalDate.ofEpochDay(lastOpenEpochDay + 1));
+			}
+
+			nextEpochDay++;
+		}
+	}
+
+	public int getDaysOfWeekMask() {
+		return daysOfWeekMask;
+	}
+}
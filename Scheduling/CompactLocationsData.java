@@ -0,0 +1,367 @@
+package schedules.data;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Compact columnar storage of the available equipments of a list of locations. Names are stored once in a shared dictionnary and equipments are int identifiers in flat arrays, indexed by offsets per location and per sublocation.
+ * <p>
+ * Location i has its on-site equipments in [onSiteStarts[i], onSiteStarts[i + 1]) and its sublocations in [sublocationsStarts[i], sublocationsStarts[i + 1]). Sublocation j has its off-site equipments in [offSiteStarts[j], offSiteStarts[j + 1]).
+ * <p>
+ * A snapshot, created by toSnapshot, is immutable: it can be scheduled many times and by several threads at once, the scheduling state being kept apart.
+ */
+public class CompactLocationsData {
+	/** Dictionnary of the location, sublocation and equipment names **/
+	private final StringDictionaryData dictionary;
+
+	/** Number of locations **/
+	private int locationsCount;
+
+	/** Name identifier of each location **/
+	private int[] locationsNames;
+
+	/** Offset of the first on-site equipment of each location **/
+	private int[] onSiteStarts;
+
+	/** Index of the first sublocation of each location **/
+	private int[] sublocationsStarts;
+
+	/** Number of on-site equipments **/
+	private int onSiteEquipmentsCount;
+
+	/** On-site equipment name identifiers of all locations **/
+	private int[] onSiteEquipments;
+
+	/** Number of sublocations **/
+	private int sublocationsCount;
+
+	/** Name identifier of each sublocation **/
+	private int[] sublocationsNames;
+
+	/** Offset of the first off-site equipment of each sublocation **/
+	private int[] offSiteStarts;
+
+	/** Number of off-site equipments **/
+	private int offSiteEquipmentsCount;
+
+	/** Off-site equipment name identifiers of all sublocations **/
+	private int[] offSiteEquipments;
+
+	/** Split indicator required for on-site equipments, by location index **/
+	private final BitSet splitRequiredOnSiteEquipments;
+
+	/** Split indicator required for off-site equipments, by sublocation index **/
+	private final BitSet splitRequiredOffSiteEquipments;
+
+	/** Latitude of each location, NaN when unknown **/
+	private double[] latitudes;
+
+	/** Longitude of each location, NaN when unknown **/
+	private double[] longitudes;
+
+	/** Indicator of a snapshot, to which no location can be added **/
+	private final boolean snapshot;
+
+	public CompactLocationsData() {
+		this(new StringDictionaryData());
+	}
+
+	public CompactLocationsData(StringDictionaryData dictionary) {
+		this.dictionary = dictionary;
+		this.locationsCount = 0;
+		this.locationsNames = new int[16];
+		this.onSiteStarts = new int[17];
+		this.sublocationsStarts = new int[17];
+		this.onSiteEquipmentsCount = 0;
+		this.onSiteEquipments = new int[64];
+		this.sublocationsCount = 0;
+		this.sublocationsNames = new int[16];
+		this.offSiteStarts = new int[17];
+		this.offSiteEquipmentsCount = 0;
+		this.offSiteEquipments = new int[64];
+		this.splitRequiredOnSiteEquipments = new BitSet();
+		this.splitRequiredOffSiteEquipments = new BitSet();
+		this.latitudes = new double[16];
+		this.longitudes = new double[16];
+		this.snapshot = false;
+	}
+
+	private CompactLocationsData(CompactLocationsData compactLocations) {
+		this.dictionary = compactLocations.dictionary.toSnapshot();
+		this.locationsCount = compactLocations.locationsCount;
+		this.locationsNames = Arrays.copyOf(compactLocations.locationsNames, locationsCount);
+		this.onSiteStarts = Arrays.copyOf(compactLocations.onSiteStarts, locationsCount + 1);
+		this.sublocationsStarts = Arrays.copyOf(compactLocations.sublocationsStarts, locationsCount + 1);
+		this.onSiteEquipmentsCount = compactLocations.onSiteEquipmentsCount;
+		this.onSiteEquipments = Arrays.copyOf(compactLocations.onSiteEquipments, onSiteEquipmentsCount);
+		this.sublocationsCount = compactLocations.sublocationsCount;
+		this.sublocationsNames = Arrays.copyOf(compactLocations.sublocationsNames, sublocationsCount);
+		this.offSiteStarts = Arrays.copyOf(compactLocations.offSiteStarts, sublocationsCount + 1);
+		this.offSiteEquipmentsCount = compactLocations.offSiteEquipmentsCount;
+		this.offSiteEquipments = Arrays.copyOf(compactLocations.offSiteEquipments, offSiteEquipmentsCount);
+		this.splitRequiredOnSiteEquipments = (BitSet) compactLocations.splitRequiredOnSiteEquipments.clone();
+		this.splitRequiredOffSiteEquipments = (BitSet) compactLocations.splitRequiredOffSiteEquipments.clone();
+		this.latitudes = Arrays.copyOf(compactLocations.latitudes, locationsCount);
+		this.longitudes = Arrays.copyOf(compactLocations.longitudes, locationsCount);
+		this.snapshot = true;
+	}
+
+	/**
+	 * Creates an immutable copy of the compact storage, trimmed to its size, with its own dictionnary
+	 * @return the snapshot of the compact storage
+	 */
+	public CompactLocationsData toSnapshot() {
+		return snapshot ? this : new CompactLocationsData(this);
+	}
+
+	/**
+	 * Converts a list of locations to an immutable compact storage
+	 * @param locationsList List of locations and its equipments
+	 * @return the snapshot of the locations
+	 */
+	public static CompactLocationsData snapshotOf(List<LocationData> locationsList) {
+		return fromLocationsList(locationsList).toSnapshot();
+	}
+
+	/**
+	 * Converts a list of locations to its compact storage
+	 * @param locationsList List of locations and its equipments
+	 * @return the compact storage of the locations
+	 */
+	public static CompactLocationsData fromLocationsList(List<LocationData> locationsList) {
+		CompactLocationsData compactLocations = new CompactLocationsData();
+
+		for (LocationData location : locationsList) {
+			compactLocations.addLocation(location);
+		}
+
+		return compactLocations;
+	}
+
+	/**
+	 * Converts the compact storage to a list of locations
+	 * @return a new list of locations and its equipments
+	 */
+	public List<LocationData> toLocationsList() {
+		List<LocationData> locationsList = new ArrayList<>(locationsCount);
+
+		for (int location = 0; location < locationsCount; location++) {
+			locationsList.add(toLocationData(location));
+		}
+
+		return locationsList;
+	}
+
+	/**
+	 * Converts a location of the compact storage
+	 * @param location Location index
+	 * @return a new location and its equipments
+	 */
+	public LocationData toLocationData(int location) {
+		LocationData locationData = new LocationData(getLocationName(location), latitudes[location], longitudes[location]);
+
+		for (int i = onSiteStarts[location]; i < onSiteStarts[location + 1]; i++) {
+			locationData.addOnSiteEquipment(dictionary.getString(onSiteEquipments[i]));
+		}
+
+		locationData.setSplitRequiredOnSiteEquipments(isSplitRequiredOnSiteEquipments(location));
+
+		for (int sublocation = sublocationsStarts[location]; sublocation < sublocationsStarts[location + 1]; sublocation++) {
+			String sublocationName = getSublocationName(sublocation);
+
+			for (int i = offSiteStarts[sublocation]; i < offSiteStarts[sublocation + 1]; i++) {
+				locationData.addOffSiteEquipmentToSublocation(sublocationName, dictionary.getString(offSiteEquipments[i]));
+			}
+
+			locationData.setSplitRequiredOffSiteEquipmentsSublocation(sublocationName, isSplitRequiredOffSiteEquipments(sublocation));
+		}
+
+		return locationData;
+	}
+
+	/**
+	 * Adds a location and its equipments at the end of the compact storage
+	 * @param location Location and its equipments
+	 * @throws IllegalStateException if the compact storage is a snapshot
+	 */
+	public void addLocation(LocationData location) {
+		if (snapshot) {
+			throw new IllegalStateException("Location " + location.getLocationName() + " added to snapshot");
+		}
+
+		if (locationsCount == locationsNames.length) {
+			locationsNames = Arrays.copyOf(locationsNames, locationsCount * 2);
+			onSiteStarts = Arrays.copyOf(onSiteStarts, (locationsCount * 2) + 1);
+			sublocationsStarts = Arrays.copyOf(sublocationsStarts, (locationsCount * 2) + 1);
+			latitudes = Arrays.copyOf(latitudes, locationsCount * 2);
+			longitudes = Arrays.copyOf(longitudes, locationsCount * 2);
+		}
+
+		locationsNames[locationsCount] = dictionary.intern(location.getLocationName());
+		latitudes[locationsCount] = location.getLatitude();
+		longitudes[locationsCount] = location.getLongitude();
+		splitRequiredOnSiteEquipments.set(locationsCount, location.isSplitRequiredOnSiteEquipments());
+
+		onSiteEquipments = ensureCapacity(onSiteEquipments, onSiteEquipmentsCount + location.getOnSiteEquipmentsCount());
+
+		for (String equipmentName : location.getOnSiteEquipmentsList()) {
+			onSiteEquipments[onSiteEquipmentsCount++] = dictionary.intern(equipmentName);
+		}
+
+		offSiteEquipments = ensureCapacity(offSiteEquipments, offSiteEquipmentsCount + location.getTotalOffSiteEquipmentsSublocationsCount());
+
+		for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+			if (sublocationsCount == sublocationsNames.length) {
+				sublocationsNames = Arrays.copyOf(sublocationsNames, sublocationsCount * 2);
+				offSiteStarts = Arrays.copyOf(offSiteStarts, (sublocationsCount * 2) + 1);
+			}
+
+			sublocationsNames[sublocationsCount] = dictionary.intern(sublocationEntry.getKey());
+			splitRequiredOffSiteEquipments.set(sublocationsCount, !Boolean.FALSE.equals(location.getSplitRequiredOffSiteEquipmentsSublocationsMap().get(sublocationEntry.getKey())));
+
+			for (String equipmentName : sublocationEntry.getValue()) {
+				offSiteEquipments[offSiteEquipmentsCount++] = dictionary.intern(equipmentName);
+			}
+
+			sublocationsCount++;
+			offSiteStarts[sublocationsCount] = offSiteEquipmentsCount;
+		}
+
+		locationsCount++;
+		onSiteStarts[locationsCount] = onSiteEquipmentsCount;
+		sublocationsStarts[locationsCount] = sublocationsCount;
+	}
+
+	private static int[] ensureCapacity(int[] array, int capacity) {
+		if (capacity <= array.length) {
+			return array;
+		}
+
+		return Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+	}
+
+	/**
+	 * Extracts a read-only view of the on-site equipments name list of a location
+	 * @param location Location index
+	 * @return the on-site equipments name list
+	 */
+	public List<String> getOnSiteEquipmentsList(int location) {
+		return new EquipmentsListView(onSiteEquipments, onSiteStarts[location], onSiteStarts[location + 1]);
+	}
+
+	/**
+	 * Extracts a read-only view of the off-site equipments name list of a sublocation
+	 * @param sublocation Sublocation index
+	 * @return the off-site equipments name list
+	 */
+	public List<String> getOffSiteEquipmentsList(int sublocation) {
+		return new EquipmentsListView(offSiteEquipments, offSiteStarts[sublocation], offSiteStarts[sublocation + 1]);
+	}
+
+	public StringDictionaryData getDictionary() {
+		return dictionary;
+	}
+
+	public int getLocationsCount() {
+		return locationsCount;
+	}
+
+	public int getSublocationsCount() {
+		return sublocationsCount;
+	}
+
+	public int getTotalEquipmentsCount() {
+		return onSiteEquipmentsCount + offSiteEquipmentsCount;
+	}
+
+	public String getLocationName(int location) {
+		return dictionary.getString(locationsNames[location]);
+	}
+
+	public double getLatitude(int location) {
+		return latitudes[location];
+	}
+
+	public double getLongitude(int location) {
+		return longitudes[location];
+	}
+
+	public int getOnSiteEquipmentsCount(int location) {
+		return onSiteStarts[location + 1] - onSiteStarts[location];
+	}
+
+	public int getOnSiteEquipment(int location, int position) {
+		return onSiteEquipments[onSiteStarts[location] + position];
+	}
+
+	public int getSublocationsStart(int location) {
+		return sublocationsStarts[location];
+	}
+
+	public int getSublocationsEnd(int location) {
+		return sublocationsStarts[location + 1];
+	}
+
+	public String getSublocationName(int sublocation) {
+		return dictionary.getString(sublocationsNames[sublocation]);
+	}
+
+	public int getOffSiteEquipmentsCount(int sublocation) {
+		return offSiteStarts[sublocation + 1] - offSiteStarts[sublocation];
+	}
+
+	public int getOffSiteEquipment(int sublocation, int position) {
+		return offSiteEquipments[offSiteStarts[sublocation] + position];
+	}
+
+	public boolean isSplitRequiredOnSiteEquipments(int location) {
+		return splitRequiredOnSiteEquipments.get(location);
+	}
+
+	public boolean isSplitRequiredOffSiteEquipments(int sublocation) {
+		return splitRequiredOffSiteEquipments.get(sublocation);
+	}
+
+	public boolean isSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Read-only view of a range of equipment name identifiers, resolved through the dictionnary
+	 */
+	private class EquipmentsListView extends AbstractList<String> implements RandomAccess {
+		/** Equipment name identifiers **/
+		private final int[] equipments;
+
+		/** Start offset of the range **/
+		private final int start;
+
+		/** End offset of the range (exclusive) **/
+		private final int end;
+
+		EquipmentsListView(int[] equipments, int start, int end) {
+			this.equipments = equipments;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public String get(int index) {
+			if ((index < 0) || (index >= end - start)) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (end - start));
+			}
+
+			return dictionary.getString(equipments[start + index]);
+		}
+
+		@Override
+		public int size() {
+			return end - start;
+		}
+	}
+}
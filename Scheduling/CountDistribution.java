@@ -0,0 +1,12 @@
+package generators.data;
+
+/**
+ * Distributions of the generated counts between a minimum and a maximum
+ */
+public enum CountDistribution {
+	/** Every count between the minimum and the maximum is equally likely **/
+	UNIFORM,
+
+	/** The counts near the minimum are the most likely, with a geometric tail up to the maximum **/
+	GEOMETRIC;
+}
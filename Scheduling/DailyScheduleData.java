@@ -1,5 +1,7 @@
 package schedules.data;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -11,12 +13,20 @@ import java.util.Map;
 public class DailyScheduleData {
 	/** Scheduled date of maintenance **/
 	private final Date scheduledDate;
+
+	/** Scheduled day of maintenance **/
+	private final LocalDate scheduledLocalDate;
 	
 	/** Dictionnary of a list of locations and its equipments to maintain by technicians for the scheduled date **/
 	private final Map<String, List<LocationData>> techniciansLocationsMap;
 	
 	public DailyScheduleData(Date scheduledDate) {
+		this(scheduledDate, scheduledDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
+	}
+
+	public DailyScheduleData(Date scheduledDate, LocalDate scheduledLocalDate) {
 		this.scheduledDate = scheduledDate;
+		this.scheduledLocalDate = scheduledLocalDate;
 		this.techniciansLocationsMap = new LinkedHashMap<>();
 	}
 
@@ -24,6 +34,10 @@ public class DailyScheduleData {
 		return scheduledDate;
 	}
 
+	public LocalDate getScheduledLocalDate() {
+		return scheduledLocalDate;
+	}
+
 	public Map<String, List<LocationData>> getTechniciansLocationsMap() {
 		return techniciansLocationsMap;
 	}
@@ -0,0 +1,12 @@
+package schedules.data;
+
+/**
+ * Balancing modes of the equipments over the days of a schedule based on a fix number of days
+ */
+public enum DayBalancingMode {
+	/** Each location is split in turn on the least loaded days, the parts beyond the target per day being left unscheduled **/
+	GREEDY,
+
+	/** The locations are split in halves placed by longest processing time first on distinct days, then the most loaded day is repaired by moves and swaps within a time budget, all the equipments being scheduled **/
+	LPT_LOCAL_SEARCH;
+}
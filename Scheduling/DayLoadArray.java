@@ -0,0 +1,52 @@
+package schedules;
+
+/**
+ * Selection of the least loaded day by a linear scan over the loads of the days, in O(days) per selection
+ */
+class DayLoadArray implements DayLoadSelector {
+	/** Load of each day **/
+	private final int[] loads;
+
+	/**
+	 * Constructor
+	 * @param loads Initial load of each day
+	 */
+	DayLoadArray(int[] loads) {
+		this.loads = loads.clone();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.DayLoadSelector#getLeastLoadedDay()
+	 */
+	@Override
+	public int getLeastLoadedDay() {
+		int minDay = 0;
+
+		for (int i = 1; i < loads.length; i++) {
+			if (loads[i] < loads[minDay]) {
+				minDay = i;
+			}
+		}
+
+		return minDay;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.DayLoadSelector#addLoad(int, int)
+	 */
+	@Override
+	public void addLoad(int day, int load) {
+		loads[day] += load;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.DayLoadSelector#getLoad(int)
+	 */
+	@Override
+	public int getLoad(int day) {
+		return loads[day];
+	}
+}
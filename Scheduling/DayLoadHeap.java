@@ -0,0 +1,115 @@
+package schedules;
+
+/**
+ * Selection of the least loaded day by an indexed binary min-heap over the loads of the days, in O(1) per selection and O(log days) per load update. Days with the same load are ordered by ascending index, as for a linear scan.
+ */
+class DayLoadHeap implements DayLoadSelector {
+	/** Load of each day **/
+	private final int[] loads;
+
+	/** Binary min-heap of the day indexes **/
+	private final int[] heap;
+
+	/** Position in the heap of each day **/
+	private final int[] positions;
+
+	/**
+	 * Constructor
+	 * @param loads Initial load of each day
+	 */
+	DayLoadHeap(int[] loads) {
+		this.loads = loads.clone();
+		this.heap = new int[loads.length];
+		this.positions = new int[loads.length];
+
+		for (int day = 0; day < loads.length; day++) {
+			heap[day] = day;
+			positions[day] = day;
+		}
+
+		for (int position = (heap.length / 2) - 1; position >= 0; position--) {
+			siftDown(position);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.DayLoadSelector#getLeastLoadedDay()
+	 */
+	@Override
+	public int getLeastLoadedDay() {
+		return heap[0];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.DayLoadSelector#addLoad(int, int)
+	 */
+	@Override
+	public void addLoad(int day, int load) {
+		loads[day] += load;
+
+		if (load > 0) {
+			siftDown(positions[day]);
+		} else {
+			siftUp(positions[day]);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.DayLoadSelector#getLoad(int)
+	 */
+	@Override
+	public int getLoad(int day) {
+		return loads[day];
+	}
+
+	private boolean isLess(int day, int otherDay) {
+		return (loads[day] < loads[otherDay]) || ((loads[day] == loads[otherDay]) && (day < otherDay));
+	}
+
+	private void siftUp(int position) {
+		int day = heap[position];
+
+		while (position > 0) {
+			int parent = (position - 1) / 2;
+
+			if (!isLess(day, heap[parent])) {
+				break;
+			}
+
+			move(heap[parent], position);
+			position = parent;
+		}
+
+		move(day, position);
+	}
+
+	private void siftDown(int position) {
+		int day = heap[position];
+		int half = heap.length / 2;
+
+		while (position < half) {
+			int child = (2 * position) + 1;
+
+			if ((child + 1 < heap.length) && isLess(heap[child + 1], heap[child])) {
+				child++;
+			}
+
+			if (!isLess(heap[child], day)) {
+				break;
+			}
+
+			move(heap[child], position);
+			position = child;
+		}
+
+		move(day, position);
+	}
+
+	private void move(int day, int position) {
+		heap[position] = day;
+		positions[day] = position;
+	}
+}
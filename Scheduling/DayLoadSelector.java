@@ -0,0 +1,27 @@
+package schedules;
+
+/**
+ * Selection of the least loaded day, among the days of a schedule, where to place the next equipments
+ */
+interface DayLoadSelector {
+
+	/**
+	 * Extracts the least loaded day, the lowest day index being selected when several days have the same load
+	 * @return the index of the least loaded day
+	 */
+	int getLeastLoadedDay();
+
+	/**
+	 * Adds a load to a day
+	 * @param day Day index
+	 * @param load Load to add
+	 */
+	void addLoad(int day, int load);
+
+	/**
+	 * Extracts the load of a day
+	 * @param day Day index
+	 * @return the load of the day
+	 */
+	int getLoad(int day);
+}
@@ -0,0 +1,357 @@
+package schedules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+import schedules.data.CompactLocationsData;
+import schedules.data.LocationData;
+
+/**
+ * Index-based allocation engine of the equipments of a list of locations. The equipments are consumed by moving a cursor per location and per sublocation instead of being removed from the lists of the locations.
+ * <p>
+ * When allocating from a compact storage, the equipments are read directly from its arrays and all the allocation state is kept in the arrays of the engine, so the compact storage is never modified.
+ */
+class EquipmentAllocator {
+	/** Locations to allocate, null when allocating from a compact storage **/
+	private final LocationData[] locations;
+
+	/** Compact storage of the locations to allocate, null when allocating from a list of locations **/
+	private final CompactLocationsData compactLocations;
+
+	/** Location names **/
+	private final String[] locationsNames;
+
+	/** Latitude of each location, NaN when unknown **/
+	private final double[] latitudes;
+
+	/** Longitude of each location, NaN when unknown **/
+	private final double[] longitudes;
+
+	/** On-site equipments name list for each location, null when allocating from a compact storage **/
+	private final List<List<String>> onSiteEquipmentsList;
+
+	/** On-site equipments count for each location **/
+	private final int[] onSiteCounts;
+
+	/** Cursor of the next on-site equipment to allocate for each location **/
+	private final int[] onSiteCursors;
+
+	/** Split indicator required for on-site equipments for each location **/
+	private final boolean[] splitRequiredOnSite;
+
+	/** Remaining off-site equipments count for each location **/
+	private final int[] remainingOffSiteCounts;
+
+	/** Index of the first sublocation of each location, the last entry being the total number of sublocations **/
+	private final int[] sublocationsStarts;
+
+	/** Location index of each sublocation **/
+	private final int[] sublocationsLocations;
+
+	/** Sublocation names **/
+	private final String[] sublocationsNames;
+
+	/** Off-site equipments name list for each sublocation, null when allocating from a compact storage **/
+	private final List<List<String>> sublocationsEquipmentsList;
+
+	/** Off-site equipments count for each sublocation **/
+	private final int[] sublocationsCounts;
+
+	/** Cursor of the next off-site equipment to allocate for each sublocation **/
+	private final int[] offSiteCursors;
+
+	/** Split indicator required for off-site equipments for each sublocation **/
+	private final boolean[] splitRequiredOffSite;
+
+	/** Number of locations created by the allocation **/
+	private int createdLocationsCount;
+
+	/**
+	 * Constructor
+	 * @param locationsList List of locations and its equipments to be allocated
+	 */
+	EquipmentAllocator(List<LocationData> locationsList) {
+		int locationsCount = locationsList.size();
+		int sublocationsCount = 0;
+
+		for (LocationData location : locationsList) {
+			sublocationsCount += location.getSublocationsCount();
+		}
+
+		this.locations = locationsList.toArray(new LocationData[locationsCount]);
+		this.compactLocations = null;
+		this.locationsNames = new String[locationsCount];
+		this.latitudes = new double[locationsCount];
+		this.longitudes = new double[locationsCount];
+		this.onSiteEquipmentsList = new ArrayList<>(locationsCount);
+		this.onSiteCounts = new int[locationsCount];
+		this.onSiteCursors = new int[locationsCount];
+		this.splitRequiredOnSite = new boolean[locationsCount];
+		this.remainingOffSiteCounts = new int[locationsCount];
+		this.sublocationsStarts = new int[locationsCount + 1];
+		this.sublocationsLocations = new int[sublocationsCount];
+		this.sublocationsNames = new String[sublocationsCount];
+		this.sublocationsEquipmentsList = new ArrayList<>(sublocationsCount);
+		this.sublocationsCounts = new int[sublocationsCount];
+		this.offSiteCursors = new int[sublocationsCount];
+		this.splitRequiredOffSite = new boolean[sublocationsCount];
+
+		int sublocation = 0;
+
+		for (int index = 0; index < locationsCount; index++) {
+			LocationData location = locations[index];
+
+			locationsNames[index] = location.getLocationName();
+			latitudes[index] = location.getLatitude();
+			longitudes[index] = location.getLongitude();
+			onSiteEquipmentsList.add(location.getOnSiteEquipmentsList());
+			onSiteCounts[index] = location.getOnSiteEquipmentsCount();
+			splitRequiredOnSite[index] = location.isSplitRequiredOnSiteEquipments();
+			sublocationsStarts[index] = sublocation;
+
+			for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+				sublocationsLocations[sublocation] = index;
+				sublocationsNames[sublocation] = sublocationEntry.getKey();
+				sublocationsEquipmentsList.add(sublocationEntry.getValue());
+				sublocationsCounts[sublocation] = sublocationEntry.getValue().size();
+				splitRequiredOffSite[sublocation] = !Boolean.FALSE.equals(location.getSplitRequiredOffSiteEquipmentsSublocationsMap().get(sublocationEntry.getKey()));
+				remainingOffSiteCounts[index] += sublocationEntry.getValue().size();
+				sublocation++;
+			}
+		}
+
+		sublocationsStarts[locationsCount] = sublocation;
+	}
+
+	/**
+	 * Constructor, the compact storage being read only
+	 * @param compactLocations Compact storage of the locations and its equipments to be allocated
+	 */
+	EquipmentAllocator(CompactLocationsData compactLocations) {
+		int locationsCount = compactLocations.getLocationsCount();
+		int sublocationsCount = compactLocations.getSublocationsCount();
+
+		this.locations = null;
+		this.compactLocations = compactLocations;
+		this.locationsNames = new String[locationsCount];
+		this.latitudes = new double[locationsCount];
+		this.longitudes = new double[locationsCount];
+		this.onSiteEquipmentsList = null;
+		this.onSiteCounts = new int[locationsCount];
+		this.onSiteCursors = new int[locationsCount];
+		this.splitRequiredOnSite = new boolean[locationsCount];
+		this.remainingOffSiteCounts = new int[locationsCount];
+		this.sublocationsStarts = new int[locationsCount + 1];
+		this.sublocationsLocations = new int[sublocationsCount];
+		this.sublocationsNames = new String[sublocationsCount];
+		this.sublocationsEquipmentsList = null;
+		this.sublocationsCounts = new int[sublocationsCount];
+		this.offSiteCursors = new int[sublocationsCount];
+		this.splitRequiredOffSite = new boolean[sublocationsCount];
+
+		for (int index = 0; index < locationsCount; index++) {
+			locationsNames[index] = compactLocations.getLocationName(index);
+			latitudes[index] = compactLocations.getLatitude(index);
+			longitudes[index] = compactLocations.getLongitude(index);
+			onSiteCounts[index] = compactLocations.getOnSiteEquipmentsCount(index);
+			splitRequiredOnSite[index] = compactLocations.isSplitRequiredOnSiteEquipments(index);
+			sublocationsStarts[index] = compactLocations.getSublocationsStart(index);
+
+			for (int sublocation = compactLocations.getSublocationsStart(index); sublocation < compactLocations.getSublocationsEnd(index); sublocation++) {
+				sublocationsLocations[sublocation] = index;
+				sublocationsNames[sublocation] = compactLocations.getSublocationName(sublocation);
+				sublocationsCounts[sublocation] = compactLocations.getOffSiteEquipmentsCount(sublocation);
+				splitRequiredOffSite[sublocation] = compactLocations.isSplitRequiredOffSiteEquipments(sublocation);
+				remainingOffSiteCounts[index] += compactLocations.getOffSiteEquipmentsCount(sublocation);
+			}
+		}
+
+		sublocationsStarts[locationsCount] = sublocationsCount;
+	}
+
+	/**
+	 * Applies the allocated equipments and split indicators to the locations, by removing the allocated equipments from the start of their lists. Nothing is applied to a compact storage.
+	 */
+	void commit() {
+		if (locations == null) {
+			return;
+		}
+
+		for (int index = 0; index < locations.length; index++) {
+			LocationData location = locations[index];
+
+			location.removeOnSiteEquipments(onSiteCursors[index]);
+			location.setSplitRequiredOnSiteEquipments(splitRequiredOnSite[index]);
+
+			for (int sublocation = sublocationsStarts[index]; sublocation < sublocationsStarts[index + 1]; sublocation++) {
+				location.removeOffSiteEquipmentsFromSublocation(sublocationsNames[sublocation], offSiteCursors[sublocation]);
+				location.setSplitRequiredOffSiteEquipmentsSublocation(sublocationsNames[sublocation], splitRequiredOffSite[sublocation]);
+			}
+		}
+	}
+
+	/**
+	 * Allocates the next on-site equipments of a location
+	 * @param index Location index
+	 * @param count Number of equipments to allocate
+	 * @return a new location containing the allocated on-site equipments
+	 */
+	LocationData allocateOnSite(int index, int count) {
+		LocationData dayLocation = createLocation(index);
+
+		int cursor = onSiteCursors[index];
+
+		if (compactLocations != null) {
+			for (int i = 0; i < count; i++) {
+				dayLocation.addOnSiteEquipment(compactLocations.getDictionary().getString(compactLocations.getOnSiteEquipment(index, cursor + i)));
+			}
+		} else {
+			List<String> equipmentsList = onSiteEquipmentsList.get(index);
+
+			for (int i = 0; i < count; i++) {
+				dayLocation.addOnSiteEquipment(equipmentsList.get(cursor + i));
+			}
+		}
+
+		onSiteCursors[index] = cursor + count;
+
+		return dayLocation;
+	}
+
+	/**
+	 * Creates an empty location with the name and the coordinates of a location
+	 * @param index Location index
+	 * @return a new location without equipments
+	 */
+	LocationData createLocation(int index) {
+		createdLocationsCount++;
+
+		return new LocationData(locationsNames[index], latitudes[index], longitudes[index]);
+	}
+
+	/**
+	 * Allocates the next off-site equipments of a sublocation
+	 * @param sublocation Sublocation index
+	 * @param count Number of equipments to allocate
+	 * @param dayLocation Location receiving the allocated off-site equipments
+	 */
+	void allocateOffSite(int sublocation, int count, LocationData dayLocation) {
+		int cursor = offSiteCursors[sublocation];
+
+		if (compactLocations != null) {
+			for (int i = 0; i < count; i++) {
+				dayLocation.addOffSiteEquipmentToSublocation(sublocationsNames[sublocation], compactLocations.getDictionary().getString(compactLocations.getOffSiteEquipment(sublocation, cursor + i)));
+			}
+		} else {
+			List<String> equipmentsList = sublocationsEquipmentsList.get(sublocation);
+
+			for (int i = 0; i < count; i++) {
+				dayLocation.addOffSiteEquipmentToSublocation(sublocationsNames[sublocation], equipmentsList.get(cursor + i));
+			}
+		}
+
+		offSiteCursors[sublocation] = cursor + count;
+		remainingOffSiteCounts[sublocationsLocations[sublocation]] -= count;
+	}
+
+	/**
+	 * Extracts the indexes of the locations sorted by descending count, keeping the original order for equal counts
+	 * @param countFunction Count function of a location index
+	 * @return the sorted indexes of the locations
+	 */
+	int[] getLocationsIndexesByDescendingCount(IntUnaryOperator countFunction) {
+		Integer[] indexes = new Integer[locationsNames.length];
+
+		for (int index = 0; index < indexes.length; index++) {
+			indexes[index] = index;
+		}
+
+		// Arrays.sort on objects is stable
+		Arrays.sort(indexes, (a, b) -> Integer.compare(countFunction.applyAsInt(b), countFunction.applyAsInt(a)));
+
+		int[] sortedIndexes = new int[indexes.length];
+
+		for (int i = 0; i < indexes.length; i++) {
+			sortedIndexes[i] = indexes[i];
+		}
+
+		return sortedIndexes;
+	}
+
+	/**
+	 * Extracts the indexes of the sublocations of a location sorted by descending remaining count, keeping the original order for equal counts
+	 * @param index Location index
+	 * @return the sorted indexes of the sublocations
+	 */
+	int[] getSublocationsIndexesByDescendingCount(int index) {
+		int start = sublocationsStarts[index];
+		int[] sortedSublocations = new int[sublocationsStarts[index + 1] - start];
+
+		// Stable insertion sort, the number of sublocations of a location is small
+		for (int i = 0; i < sortedSublocations.length; i++) {
+			int sublocation = start + i;
+			int count = getRemainingSublocationCount(sublocation);
+			int j = i - 1;
+
+			while (j >= 0 && getRemainingSublocationCount(sortedSublocations[j]) < count) {
+				sortedSublocations[j + 1] = sortedSublocations[j];
+				j--;
+			}
+
+			sortedSublocations[j + 1] = sublocation;
+		}
+
+		return sortedSublocations;
+	}
+
+	int getCreatedLocationsCount() {
+		return createdLocationsCount;
+	}
+
+	int getLocationsCount() {
+		return locationsNames.length;
+	}
+
+	String getLocationName(int index) {
+		return locationsNames[index];
+	}
+
+	int getRemainingOnSiteCount(int index) {
+		return onSiteCounts[index] - onSiteCursors[index];
+	}
+
+	int getRemainingOffSiteCount(int index) {
+		return remainingOffSiteCounts[index];
+	}
+
+	int getRemainingTotalCount(int index) {
+		return getRemainingOnSiteCount(index) + getRemainingOffSiteCount(index);
+	}
+
+	int getRemainingSublocationCount(int sublocation) {
+		return sublocationsCounts[sublocation] - offSiteCursors[sublocation];
+	}
+
+	String getSublocationName(int sublocation) {
+		return sublocationsNames[sublocation];
+	}
+
+	boolean isSplitRequiredOnSite(int index) {
+		return splitRequiredOnSite[index];
+	}
+
+	void setSplitRequiredOnSite(int index, boolean splitRequired) {
+		splitRequiredOnSite[index] = splitRequired;
+	}
+
+	boolean isSplitRequiredOffSite(int sublocation) {
+		return splitRequiredOffSite[sublocation];
+	}
+
+	void setSplitRequiredOffSite(int sublocation, boolean splitRequired) {
+		splitRequiredOffSite[sublocation] = splitRequired;
+	}
+}
@@ -0,0 +1,171 @@
+package schedules;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import schedules.data.DailyScheduleData;
+import schedules.data.LocationData;
+
+/**
+ * Distribution of the equipments of a scheduled day to the technicians by geographic clusters of locations.
+ * <p>
+ * The locations of the day are partitioned recursively as a k-d tree: each node sorts its locations along the axis of their largest spread, then cuts them at the number of equipments of the technicians of its first half, the location on the cut being split between both halves.
+ * Each technician receives one compact cluster of locations, so the estimated travel stays low, and the numbers of equipments of the technicians differ by at most one.
+ * Locations without coordinates are sorted after the located ones on both axes, so they complete the last clusters.
+ */
+final class GeographicDistributor {
+	/** Comparator of the locations by latitude, the locations without coordinates being last **/
+	private static final Comparator<LocationData> LATITUDE_COMPARATOR = Comparator.comparingDouble(LocationData::getLatitude);
+
+	/** Comparator of the locations by longitude, the locations without coordinates being last **/
+	private static final Comparator<LocationData> LONGITUDE_COMPARATOR = Comparator.comparingDouble(LocationData::getLongitude);
+
+	private GeographicDistributor() {
+	}
+
+	/**
+	 * Distributes the equipments of a scheduled day to its technicians by geographic clusters
+	 * @param dailySchedule Scheduled day, its technicians maps being replaced by the clusters of the technicians
+	 */
+	static void distribute(DailyScheduleData dailySchedule) {
+		List<List<LocationData>> techniciansLocations = new ArrayList<>(dailySchedule.getTechniciansLocationsMap().values());
+		List<LocationData> dayLocations = new ArrayList<>();
+
+		int totalEquipments = 0;
+		int locatedCount = 0;
+		double latitudesSum = 0;
+
+		for (List<LocationData> locations : techniciansLocations) {
+			for (LocationData location : locations) {
+				if (location.getTotalEquipmentsCount() > 0) {
+					dayLocations.add(location);
+					totalEquipments += location.getTotalEquipmentsCount();
+
+					if (location.hasCoordinates()) {
+						latitudesSum += location.getLatitude();
+						locatedCount++;
+					}
+				}
+			}
+
+			// Clear existing assignments for this technician
+			locations.clear();
+		}
+
+		// Number of equipments of each technician, the extra equipments going to the first technicians
+		int techniciansCount = techniciansLocations.size();
+		int[] targets = new int[techniciansCount];
+
+		for (int technician = 0; technician < techniciansCount; technician++) {
+			targets[technician] = (totalEquipments / techniciansCount) + ((technician < totalEquipments % techniciansCount) ? 1 : 0);
+		}
+
+		// Scale of the longitudes to compare their spread with the latitudes on a plane around the mean latitude
+		double longitudeScale = (locatedCount > 0) ? Math.cos(Math.toRadians(latitudesSum / locatedCount)) : 1.0;
+
+		partition(dayLocations, targets, 0, techniciansCount, longitudeScale, techniciansLocations);
+	}
+
+	private static void partition(List<LocationData> locations, int[] targets, int firstTechnician, int lastTechnician, double longitudeScale, List<List<LocationData>> techniciansLocations) {
+		if (lastTechnician - firstTechnician == 1) {
+			assign(locations, techniciansLocations.get(firstTechnician));
+			return;
+		}
+
+		int middleTechnician = (firstTechnician + lastTechnician) / 2;
+		int firstTarget = 0;
+
+		for (int technician = firstTechnician; technician < middleTechnician; technician++) {
+			firstTarget += targets[technician];
+		}
+
+		locations.sort(getLargestSpreadComparator(locations, longitudeScale));
+
+		// Cut the sorted locations at the number of equipments of the first half of the technicians
+		List<LocationData> firstLocations = new ArrayList<>();
+		List<LocationData> lastLocations = new ArrayList<>();
+
+		int count = 0;
+
+		for (LocationData location : locations) {
+			int remaining = firstTarget - count;
+
+			if (remaining <= 0) {
+				lastLocations.add(location);
+			} else if (location.getTotalEquipmentsCount() <= remaining) {
+				firstLocations.add(location);
+				count += location.getTotalEquipmentsCount();
+			} else {
+				// Split the location on the cut between both halves
+				LocationData[] splitLocations = split(location, remaining);
+
+				firstLocations.add(splitLocations[0]);
+				lastLocations.add(splitLocations[1]);
+				count += remaining;
+			}
+		}
+
+		partition(firstLocations, targets, firstTechnician, middleTechnician, longitudeScale, techniciansLocations);
+		partition(lastLocations, targets, middleTechnician, lastTechnician, longitudeScale, techniciansLocations);
+	}
+
+	private static Comparator<LocationData> getLargestSpreadComparator(List<LocationData> locations, double longitudeScale) {
+		double minLatitude = Double.POSITIVE_INFINITY;
+		double maxLatitude = Double.NEGATIVE_INFINITY;
+		double minLongitude = Double.POSITIVE_INFINITY;
+		double maxLongitude = Double.NEGATIVE_INFINITY;
+
+		for (LocationData location : locations) {
+			if (location.hasCoordinates()) {
+				minLatitude = Math.min(minLatitude, location.getLatitude());
+				maxLatitude = Math.max(maxLatitude, location.getLatitude());
+				minLongitude = Math.min(minLongitude, location.getLongitude());
+				maxLongitude = Math.max(maxLongitude, location.getLongitude());
+			}
+		}
+
+		return ((maxLongitude - minLongitude) * longitudeScale > maxLatitude - minLatitude) ? LONGITUDE_COMPARATOR : LATITUDE_COMPARATOR;
+	}
+
+	private static LocationData[] split(LocationData location, int count) {
+		LocationData firstLocation = new LocationData(location.getLocationName(), location.getLatitude(), location.getLongitude());
+		LocationData lastLocation = new LocationData(location.getLocationName(), location.getLatitude(), location.getLongitude());
+
+		// On-site equipments first, then off-site equipments
+		int position = 0;
+
+		for (String onSiteEquipment : location.getOnSiteEquipmentsList()) {
+			((position++ < count) ? firstLocation : lastLocation).addOnSiteEquipment(onSiteEquipment);
+		}
+
+		for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+			for (String offSiteEquipment : sublocationEntry.getValue()) {
+				((position++ < count) ? firstLocation : lastLocation).addOffSiteEquipmentToSublocation(sublocationEntry.getKey(), offSiteEquipment);
+			}
+		}
+
+		return new LocationData[] { firstLocation, lastLocation };
+	}
+
+	private static void assign(List<LocationData> locations, List<LocationData> technicianLocations) {
+		// Group the parts of a same location as one location for the technician
+		Map<String, LocationData> technicianLocationsMap = new HashMap<>();
+
+		for (LocationData location : locations) {
+			LocationData technicianLocation = SchedulingHelper.getTechnicianLocation(technicianLocationsMap, technicianLocations, location);
+
+			for (String onSiteEquipment : location.getOnSiteEquipmentsList()) {
+				technicianLocation.addOnSiteEquipment(onSiteEquipment);
+			}
+
+			for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+				for (String offSiteEquipment : sublocationEntry.getValue()) {
+					technicianLocation.addOffSiteEquipmentToSublocation(sublocationEntry.getKey(), offSiteEquipment);
+				}
+			}
+		}
+	}
+}
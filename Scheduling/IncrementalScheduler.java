@@ -0,0 +1,439 @@
+package schedules;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import schedules.data.DailyScheduleData;
+import schedules.data.LocationData;
+import schedules.data.ScheduleDeltaData;
+import schedules.data.SchedulingOptionsData;
+
+/**
+ * Incremental rescheduling of an extracted schedule based on a maximum number of equipments per day. The schedule is indexed once by location name, then each delta of added and removed equipments patches only the days and technicians receiving or losing equipments.
+ * <p>
+ * The indexing costs in proportion to the whole schedule, while a delta only costs in proportion to its equipments and the placements of its locations, so a scheduler is created once per schedule and reused for all its deltas. The schedule must only be modified by its scheduler while it is in use.
+ * <p>
+ * The removed equipments are taken out of the locations of the schedule, freeing the capacity of their days. The added equipments of a location or sublocation are placed on the first days having some capacity left, following the 50% rule of the scheduling: the first day holding equipments of the location or sublocation, the already scheduled ones included, holds at most 50%, rounded up, of all of them. Days are appended to the schedule when no existing day has capacity left. Each placed range of equipments is assigned to the least loaded technician of its day, with the coordinates and the split indicator of its location.
+ */
+public class IncrementalScheduler {
+	/** Schedule being patched **/
+	private final List<DailyScheduleData> scheduleList;
+
+	/** Maximum number of equipments per day **/
+	private final int maxNumberEquipmentsPerDay;
+
+	/** Dictionnary of maximum number of equipments for given days **/
+	private final Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap;
+
+	/** Start date of the schedule, used when the schedule is empty **/
+	private final LocalDate startDate;
+
+	/** List of technicians **/
+	private final List<String> techniciansList;
+
+	/** List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK **/
+	private final int[] openBusinessDays;
+
+	/** Scheduling options **/
+	private final SchedulingOptionsData options;
+
+	/** State of each day of the schedule **/
+	private final List<DayState> daysStatesList;
+
+	/** Indexes of the days having some capacity left **/
+	private final BitSet daysWithCapacity;
+
+	/** Dictionnary of location names and associated placements in the schedule **/
+	private final Map<String, List<Placement>> placementsMap;
+
+	/** Calendar of the open business days following the last day of the schedule, created when a first day is appended **/
+	private BusinessDayCalendar appendCalendar;
+
+	/** Number of days appended from the calendar **/
+	private int appendedDaysCount;
+
+	/**
+	 * Constructor, indexing the schedule
+	 * @param scheduleList Schedule extracted based on a maximum number of equipments per day, patched in place
+	 * @param maxNumberEquipmentsPerDay Maximum number of equipments per day
+	 * @param maxNumberEquipmentsForGivenDaysMap Dictionnary of maximum number of equipments for given days, may be null
+	 * @param startDate Start date of the schedule, used when the schedule is empty
+	 * @param techniciansList List of technicians
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK, Monday to Friday being used if empty
+	 * @param options Scheduling options
+	 * @throws IllegalArgumentException if the maximum number of equipments per day is not positive or if there is no technician
+	 */
+	public IncrementalScheduler(List<DailyScheduleData> scheduleList, int maxNumberEquipmentsPerDay, Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap, LocalDate startDate, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		if (maxNumberEquipmentsPerDay <= 0) {
+			throw new IllegalArgumentException("Invalid maximum number of equipments per day " + maxNumberEquipmentsPerDay);
+		}
+
+		if (techniciansList.isEmpty()) {
+			throw new IllegalArgumentException("No technician");
+		}
+
+		this.scheduleList = scheduleList;
+		this.maxNumberEquipmentsPerDay = maxNumberEquipmentsPerDay;
+		this.maxNumberEquipmentsForGivenDaysMap = (maxNumberEquipmentsForGivenDaysMap != null) ? maxNumberEquipmentsForGivenDaysMap : new HashMap<>();
+		this.startDate = startDate;
+		this.techniciansList = techniciansList;
+		this.openBusinessDays = openBusinessDays;
+		this.options = options;
+		this.daysStatesList = new ArrayList<>(scheduleList.size());
+		this.daysWithCapacity = new BitSet();
+		this.placementsMap = new HashMap<>();
+		this.appendCalendar = null;
+		this.appendedDaysCount = 0;
+
+		for (DailyScheduleData dailySchedule : scheduleList) {
+			DayState dayState = addDayState(dailySchedule);
+
+			for (int technician = 0; technician < dayState.technicianLocations.size(); technician++) {
+				for (LocationData location : dayState.technicianLocations.get(technician)) {
+					addPlacement(dayState, technician, location);
+
+					dayState.technicianLoads[technician] += location.getTotalEquipmentsCount();
+					dayState.load += location.getTotalEquipmentsCount();
+				}
+			}
+
+			updateCapacity(dayState);
+		}
+	}
+
+	/**
+	 * Applies a delta of added and removed equipments to the schedule, the removed equipments being processed first
+	 * @param delta Delta of added and removed equipments
+	 * @return the list of the days of the schedule modified by the delta, in schedule order
+	 * @throws IllegalArgumentException if a removed equipment is not in the schedule, the schedule being left unchanged
+	 */
+	public List<DailyScheduleData> apply(ScheduleDeltaData delta) {
+		// Look up all the removed equipments before modifying the schedule
+		checkRemovedEquipments(delta.getRemovedLocationsList());
+
+		BitSet affectedDays = new BitSet();
+
+		for (LocationData location : delta.getRemovedLocationsList()) {
+			for (String equipmentName : location.getOnSiteEquipmentsList()) {
+				removeEquipment(location.getLocationName(), null, equipmentName, affectedDays);
+			}
+
+			for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+				for (String equipmentName : sublocationEntry.getValue()) {
+					removeEquipment(location.getLocationName(), sublocationEntry.getKey(), equipmentName, affectedDays);
+				}
+			}
+		}
+
+		for (LocationData location : delta.getAddedLocationsList()) {
+			addEquipments(location, null, location.getOnSiteEquipmentsList(), affectedDays);
+
+			for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+				addEquipments(location, sublocationEntry.getKey(), sublocationEntry.getValue(), affectedDays);
+			}
+		}
+
+		List<DailyScheduleData> affectedScheduleList = new ArrayList<>(affectedDays.cardinality());
+
+		for (int day = affectedDays.nextSetBit(0); day >= 0; day = affectedDays.nextSetBit(day + 1)) {
+			affectedScheduleList.add(scheduleList.get(day));
+		}
+
+		return affectedScheduleList;
+	}
+
+	private void checkRemovedEquipments(List<LocationData> removedLocationsList) {
+		// Number of removed copies of each equipment, by location name then by sublocation name, null for the on-site equipments
+		Map<String, Map<String, Map<String, Integer>>> removedCountsMap = new HashMap<>();
+
+		for (LocationData location : removedLocationsList) {
+			Map<String, Map<String, Integer>> sublocationsCountsMap = removedCountsMap.computeIfAbsent(location.getLocationName(), locationName -> new HashMap<>());
+
+			for (String equipmentName : location.getOnSiteEquipmentsList()) {
+				sublocationsCountsMap.computeIfAbsent(null, sublocationName -> new HashMap<>()).merge(equipmentName, 1, Integer::sum);
+			}
+
+			for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+				for (String equipmentName : sublocationEntry.getValue()) {
+					sublocationsCountsMap.computeIfAbsent(sublocationEntry.getKey(), sublocationName -> new HashMap<>()).merge(equipmentName, 1, Integer::sum);
+				}
+			}
+		}
+
+		for (Map.Entry<String, Map<String, Map<String, Integer>>> locationEntry : removedCountsMap.entrySet()) {
+			List<Placement> placementsList = placementsMap.getOrDefault(locationEntry.getKey(), Collections.emptyList());
+
+			for (Map.Entry<String, Map<String, Integer>> sublocationEntry : locationEntry.getValue().entrySet()) {
+				// Number of scheduled copies of each equipment of the location or sublocation
+				Map<String, Integer> scheduledCountsMap = new HashMap<>();
+
+				for (Placement placement : placementsList) {
+					for (String equipmentName : getEquipmentsList(placement.location, sublocationEntry.getKey())) {
+						scheduledCountsMap.merge(equipmentName, 1, Integer::sum);
+					}
+				}
+
+				for (Map.Entry<String, Integer> equipmentEntry : sublocationEntry.getValue().entrySet()) {
+					if (scheduledCountsMap.getOrDefault(equipmentEntry.getKey(), 0) < equipmentEntry.getValue()) {
+						throw new IllegalArgumentException("Equipment " + equipmentEntry.getKey() + ((sublocationEntry.getKey() != null) ? " of sublocation " + sublocationEntry.getKey() : "") + " of location " + locationEntry.getKey() + " not scheduled");
+					}
+				}
+			}
+		}
+	}
+
+	private void removeEquipment(String locationName, String sublocationName, String equipmentName, BitSet affectedDays) {
+		List<Placement> placementsList = placementsMap.get(locationName);
+
+		if (placementsList != null) {
+			for (Iterator<Placement> iterator = placementsList.iterator(); iterator.hasNext();) {
+				Placement placement = iterator.next();
+
+				boolean removed = (sublocationName == null) ? placement.location.removeOnSiteEquipment(equipmentName) : placement.location.removeOffSiteEquipmentFromSublocation(sublocationName, equipmentName);
+
+				if (removed) {
+					DayState dayState = placement.dayState;
+
+					dayState.technicianLoads[placement.technician]--;
+					dayState.load--;
+					updateCapacity(dayState);
+
+					// Remove the location of the technician when it has no more equipments
+					if (placement.location.getTotalEquipmentsCount() == 0) {
+						dayState.technicianLocations.get(placement.technician).remove(placement.location);
+						iterator.remove();
+					}
+
+					affectedDays.set(dayState.day);
+
+					return;
+				}
+			}
+		}
+
+		throw new IllegalArgumentException("Equipment " + equipmentName + ((sublocationName != null) ? " of sublocation " + sublocationName : "") + " of location " + locationName + " not scheduled");
+	}
+
+	private void addEquipments(LocationData location, String sublocationName, List<String> equipmentsList, BitSet affectedDays) {
+		int count = equipmentsList.size();
+
+		if (count == 0) {
+			return;
+		}
+
+		boolean splitRequired = (sublocationName == null) ? location.isSplitRequiredOnSiteEquipments() : !Boolean.FALSE.equals(location.getSplitRequiredOffSiteEquipmentsSublocationsMap().get(sublocationName));
+
+		// Equipments of the location or sublocation already scheduled, and those of its first day
+		int scheduledCount = 0;
+		int firstDay = -1;
+		int firstDayCount = 0;
+
+		for (Placement placement : placementsMap.getOrDefault(location.getLocationName(), Collections.emptyList())) {
+			int placementCount = getEquipmentsList(placement.location, sublocationName).size();
+
+			if (placementCount > 0) {
+				scheduledCount += placementCount;
+
+				if ((firstDay < 0) || (placement.dayState.day < firstDay)) {
+					firstDay = placement.dayState.day;
+					firstDayCount = placementCount;
+				} else if (placement.dayState.day == firstDay) {
+					firstDayCount += placementCount;
+				}
+			}
+		}
+
+		// Apply the 50% rule on the first day to all the equipments of the location or sublocation, the scheduled ones included
+		int limit = splitRequired ? SplitRule.getFirstDayLimit(scheduledCount + count) : scheduledCount + count;
+		int position = 0;
+		int day = -1;
+
+		while (position < count) {
+			DayState dayState = getNextDayWithCapacity(day + 1);
+
+			day = dayState.day;
+
+			int toSchedule = Math.min(count - position, dayState.getCapacity());
+
+			if ((firstDay < 0) || (day < firstDay)) {
+				// The day becomes the first day of the location or sublocation
+				toSchedule = Math.min(toSchedule, limit);
+
+				firstDay = day;
+				firstDayCount = toSchedule;
+			} else if (day == firstDay) {
+				toSchedule = Math.min(toSchedule, limit - firstDayCount);
+
+				if (toSchedule <= 0) {
+					continue;
+				}
+
+				firstDayCount += toSchedule;
+			}
+
+			LocationData dayLocation = new LocationData(location.getLocationName(), location.getLatitude(), location.getLongitude());
+
+			for (int i = 0; i < toSchedule; i++) {
+				if (sublocationName == null) {
+					dayLocation.addOnSiteEquipment(equipmentsList.get(position + i));
+				} else {
+					dayLocation.addOffSiteEquipmentToSublocation(sublocationName, equipmentsList.get(position + i));
+				}
+			}
+
+			if (sublocationName == null) {
+				dayLocation.setSplitRequiredOnSiteEquipments(splitRequired);
+			} else {
+				dayLocation.setSplitRequiredOffSiteEquipmentsSublocation(sublocationName, splitRequired);
+			}
+
+			int technician = dayState.getLeastLoadedTechnician();
+
+			dayState.technicianLocations.get(technician).add(dayLocation);
+			dayState.technicianLoads[technician] += toSchedule;
+			dayState.load += toSchedule;
+			updateCapacity(dayState);
+
+			addPlacement(dayState, technician, dayLocation);
+
+			affectedDays.set(day);
+
+			position += toSchedule;
+		}
+	}
+
+	private static List<String> getEquipmentsList(LocationData location, String sublocationName) {
+		if (sublocationName == null) {
+			return location.getOnSiteEquipmentsList();
+		}
+
+		return location.getOffSiteEquipmentsSublocationsMap().getOrDefault(sublocationName, Collections.emptyList());
+	}
+
+	private DayState getNextDayWithCapacity(int fromDay) {
+		int day = daysWithCapacity.nextSetBit(fromDay);
+
+		while (day < 0) {
+			day = appendDay();
+		}
+
+		return daysStatesList.get(day);
+	}
+
+	private int appendDay() {
+		LocalTime scheduledTime = LocalTime.MIDNIGHT;
+
+		if (appendCalendar == null) {
+			LocalDate calendarStartDate = startDate;
+
+			if (!scheduleList.isEmpty()) {
+				DailyScheduleData lastDailySchedule = scheduleList.get(scheduleList.size() - 1);
+
+				calendarStartDate = lastDailySchedule.getScheduledLocalDate().plusDays(1);
+			}
+
+			appendCalendar = SchedulingHelper.createBusinessDayCalendar(calendarStartDate, openBusinessDays, techniciansList, options);
+		}
+
+		if (!scheduleList.isEmpty()) {
+			scheduledTime = SchedulingHelper.toLocalDateTime(scheduleList.get(scheduleList.size() - 1).getScheduledDate()).toLocalTime();
+		}
+
+		DailyScheduleData dailySchedule = SchedulingHelper.createDailySchedule(appendCalendar.getOpenDate(appendedDaysCount++), scheduledTime);
+
+		SchedulingHelper.initializeTechniciansLocationsMap(dailySchedule, techniciansList, options);
+
+		scheduleList.add(dailySchedule);
+
+		DayState dayState = addDayState(dailySchedule);
+
+		updateCapacity(dayState);
+
+		return daysWithCapacity.get(dayState.day) ? dayState.day : -1;
+	}
+
+	private DayState addDayState(DailyScheduleData dailySchedule) {
+		Integer maxEquipment = maxNumberEquipmentsForGivenDaysMap.get(dailySchedule.getScheduledLocalDate());
+
+		DayState dayState = new DayState();
+		dayState.day = daysStatesList.size();
+		dayState.maxEquipment = (maxEquipment != null) ? maxEquipment : maxNumberEquipmentsPerDay;
+		dayState.technicianLocations = new ArrayList<>(dailySchedule.getTechniciansLocationsMap().values());
+		dayState.technicianLoads = new int[dayState.technicianLocations.size()];
+
+		daysStatesList.add(dayState);
+
+		return dayState;
+	}
+
+	private void addPlacement(DayState dayState, int technician, LocationData location) {
+		Placement placement = new Placement();
+		placement.dayState = dayState;
+		placement.technician = technician;
+		placement.location = location;
+
+		placementsMap.computeIfAbsent(location.getLocationName(), locationName -> new ArrayList<>()).add(placement);
+	}
+
+	private void updateCapacity(DayState dayState) {
+		// A day without technicians cannot receive equipments
+		daysWithCapacity.set(dayState.day, (dayState.getCapacity() > 0) && !dayState.technicianLocations.isEmpty());
+	}
+
+	/**
+	 * State of a day of the schedule
+	 */
+	private static class DayState {
+		/** Day index in the schedule **/
+		private int day;
+
+		/** Maximum number of equipments of the day **/
+		private int maxEquipment;
+
+		/** Number of scheduled equipments of the day **/
+		private int load;
+
+		/** Locations list of each technician of the day **/
+		private List<List<LocationData>> technicianLocations;
+
+		/** Number of scheduled equipments of each technician of the day **/
+		private int[] technicianLoads;
+
+		private int getCapacity() {
+			return maxEquipment - load;
+		}
+
+		private int getLeastLoadedTechnician() {
+			int leastLoaded = 0;
+
+			for (int technician = 1; technician < technicianLoads.length; technician++) {
+				if (technicianLoads[technician] < technicianLoads[leastLoaded]) {
+					leastLoaded = technician;
+				}
+			}
+
+			return leastLoaded;
+		}
+	}
+
+	/**
+	 * Placement of a location of the schedule
+	 */
+	private static class Placement {
+		/** Day of the location **/
+		private DayState dayState;
+
+		/** Technician index of the location **/
+		private int technician;
+
+		/** Location in the schedule **/
+		private LocationData location;
+	}
+}
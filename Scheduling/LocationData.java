@@ -1,9 +1,16 @@
 package schedules.data;
 
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
 
 /**
  * Available equipments for a given location
@@ -18,16 +25,36 @@ public class LocationData {
 	/** Dictionnary of sublocation names and associated off-site equipments name list **/
 	private final Map<String, List<String>> offSiteEquipmentsSublocationsMap;
 
+	/** Total number of off-site equipments of the sublocations lists created by the location **/
+	private int totalOffSiteEquipmentsSublocationsCount;
+
+	/** Number of sublocations whose off-site equipments name list has been put in the dictionnary by the caller, and is not counted by the total **/
+	private int externalOffSiteEquipmentsListsCount;
+
 	/** Split indicator required for on-site equipments **/
 	private boolean splitRequiredOnSiteEquipments;
 
 	/** Dictionnary of sublocation split indicator required for off-site equipments **/
 	private final Map<String, Boolean> splitRequiredOffSiteEquipmentsSublocationsMap;
 
+	/** Latitude in decimal degrees, as the "lat" field of the geocoding responses, NaN when unknown **/
+	private double latitude;
+
+	/** Longitude in decimal degrees, as the "lon" field of the geocoding responses, NaN when unknown **/
+	private double longitude;
+
 	public LocationData(String locationName) {
+		this(locationName, Double.NaN, Double.NaN);
+	}
+
+	public LocationData(String locationName, double latitude, double longitude) {
 		this.locationName = locationName;
+		this.latitude = latitude;
+		this.longitude = longitude;
 		this.onSiteEquipmentsList = new ArrayList<>();
-		this.offSiteEquipmentsSublocationsMap = new LinkedHashMap<>();
+		this.offSiteEquipmentsSublocationsMap = new OffSiteEquipmentsSublocationsMap();
+		this.totalOffSiteEquipmentsSublocationsCount = 0;
+		this.externalOffSiteEquipmentsListsCount = 0;
 		this.splitRequiredOnSiteEquipments = true;
 		this.splitRequiredOffSiteEquipmentsSublocationsMap = new LinkedHashMap<>();
 	}
@@ -45,13 +72,18 @@ public class LocationData {
 	}
 
 	public int getTotalOffSiteEquipmentsSublocationsCount() {
-		int total = 0;
+		if (externalOffSiteEquipmentsListsCount == 0) {
+			return totalOffSiteEquipmentsSublocationsCount;
+		}
+
+		// The lists put by the caller are not counted, their sizes are summed
+		int count = 0;
 
-		for (List<String> offSiteEquipmentsNamesList : offSiteEquipmentsSublocationsMap.values()) {
-			total += offSiteEquipmentsNamesList.size();
+		for (List<String> offSiteEquipmentsList : offSiteEquipmentsSublocationsMap.values()) {
+			count += offSiteEquipmentsList.size();
 		}
 
-		return total;
+		return count;
 	}
 
 	public int getOffSiteEquipmentsSublocationCount(String sublocation) {
@@ -68,7 +100,7 @@ public class LocationData {
 		if (offSiteEquipmentsSublocationsMap.containsKey(sublocatioName)) {
 			offSiteEquipmentsList = offSiteEquipmentsSublocationsMap.get(sublocatioName);
 		} else {
-			offSiteEquipmentsList = new ArrayList<>();
+			offSiteEquipmentsList = new OffSiteEquipmentsList();
 			offSiteEquipmentsSublocationsMap.put(sublocatioName, offSiteEquipmentsList);
 
 			splitRequiredOffSiteEquipmentsSublocationsMap.put(sublocatioName, Boolean.TRUE);
@@ -77,14 +109,127 @@ public class LocationData {
 		return offSiteEquipmentsList.add(equipmentName);
 	}
 
+	/**
+	 * Removes the first on-site equipments
+	 * @param count Number of equipments to remove
+	 */
+	public void removeOnSiteEquipments(int count) {
+		onSiteEquipmentsList.subList(0, count).clear();
+	}
+
+	/**
+	 * Removes the first off-site equipments of a sublocation, the sublocation being removed when it has no more equipments
+	 * @param sublocatioName Sublocation name, nothing being removed from an unknown sublocation
+	 * @param count Number of equipments to remove
+	 */
+	public void removeOffSiteEquipmentsFromSublocation(String sublocatioName, int count) {
+		List<String> offSiteEquipmentsList = offSiteEquipmentsSublocationsMap.get(sublocatioName);
+
+		if (offSiteEquipmentsList == null) {
+			return;
+		}
+
+		offSiteEquipmentsList.subList(0, count).clear();
+
+		if (offSiteEquipmentsList.isEmpty()) {
+			offSiteEquipmentsSublocationsMap.remove(sublocatioName);
+			splitRequiredOffSiteEquipmentsSublocationsMap.remove(sublocatioName);
+		}
+	}
+
+	/**
+	 * Removes an on-site equipment
+	 * @param equipmentName Equipment name
+	 * @return true if the equipment has been removed
+	 */
+	public boolean removeOnSiteEquipment(String equipmentName) {
+		return onSiteEquipmentsList.remove(equipmentName);
+	}
+
+	/**
+	 * Removes an off-site equipment of a sublocation, the sublocation being removed when it has no more equipments
+	 * @param sublocatioName Sublocation name
+	 * @param equipmentName Equipment name
+	 * @return true if the equipment has been removed
+	 */
+	public boolean removeOffSiteEquipmentFromSublocation(String sublocatioName, String equipmentName) {
+		List<String> offSiteEquipmentsList = offSiteEquipmentsSublocationsMap.get(sublocatioName);
+
+		if ((offSiteEquipmentsList == null) || !offSiteEquipmentsList.remove(equipmentName)) {
+			return false;
+		}
+
+		if (offSiteEquipmentsList.isEmpty()) {
+			offSiteEquipmentsSublocationsMap.remove(sublocatioName);
+			splitRequiredOffSiteEquipmentsSublocationsMap.remove(sublocatioName);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Modifies the split indicator required for the off-site equipments of a sublocation
+	 * @param sublocatioName Sublocation name
+	 * @param splitRequired Split indicator required
+	 */
+	public void setSplitRequiredOffSiteEquipmentsSublocation(String sublocatioName, boolean splitRequired) {
+		if (offSiteEquipmentsSublocationsMap.containsKey(sublocatioName)) {
+			splitRequiredOffSiteEquipmentsSublocationsMap.put(sublocatioName, splitRequired);
+		}
+	}
+
+	/**
+	 * Indicates if the coordinates of the location are known
+	 * @return true if both the latitude and the longitude are known
+	 */
+	public boolean hasCoordinates() {
+		return !Double.isNaN(latitude) && !Double.isNaN(longitude);
+	}
+
+	/**
+	 * Modifies the coordinates of the location
+	 * @param latitude Latitude in decimal degrees, NaN when unknown
+	 * @param longitude Longitude in decimal degrees, NaN when unknown
+	 */
+	public void setCoordinates(double latitude, double longitude) {
+		this.latitude = latitude;
+		this.longitude = longitude;
+	}
+
+	/**
+	 * Modifies the coordinates of the location from the "lat" and "lon" string fields of a geocoding response
+	 * @param latitude Latitude in decimal degrees, null or empty when unknown
+	 * @param longitude Longitude in decimal degrees, null or empty when unknown
+	 * @throws NumberFormatException if a coordinate is not a decimal number
+	 */
+	public void setCoordinates(String latitude, String longitude) {
+		setCoordinates(parseCoordinate(latitude), parseCoordinate(longitude));
+	}
+
+	private static double parseCoordinate(String coordinate) {
+		return ((coordinate == null) || coordinate.trim().isEmpty()) ? Double.NaN : Double.parseDouble(coordinate.trim());
+	}
+
 	public String getLocationName() {
 		return locationName;
 	}
 
+	public double getLatitude() {
+		return latitude;
+	}
+
+	public double getLongitude() {
+		return longitude;
+	}
+
 	public List<String> getOnSiteEquipmentsList() {
 		return onSiteEquipmentsList;
 	}
 
+	/**
+	 * Extracts the dictionnary of sublocation names and associated off-site equipments name list. The dictionnary and the lists created by addOffSiteEquipmentToSublocation keep the total count of off-site equipments up to date, while the lists put by the caller are summed by getTotalOffSiteEquipmentsSublocationsCount.
+	 * @return the dictionnary of sublocation names and associated off-site equipments name list
+	 */
 	public Map<String, List<String>> getOffSiteEquipmentsSublocationsMap() {
 		return offSiteEquipmentsSublocationsMap;
 	}
@@ -97,7 +242,242 @@ public class LocationData {
 		this.splitRequiredOnSiteEquipments = splitRequiredOnSiteEquipments;
 	}
 
+	/**
+	 * Extracts the dictionnary of sublocation split indicator required for off-site equipments, the indicator of a sublocation being added with its first equipment and removed with its last one
+	 * @return the dictionnary of sublocation names and associated split indicator required
+	 */
 	public Map<String, Boolean> getSplitRequiredOffSiteEquipmentsSublocationsMap() {
 		return splitRequiredOffSiteEquipmentsSublocationsMap;
 	}
+
+	private void addOffSiteEquipmentsList(List<String> offSiteEquipmentsList) {
+		if (offSiteEquipmentsList instanceof OffSiteEquipmentsList && ((OffSiteEquipmentsList) offSiteEquipmentsList).getLocation() == this) {
+			((OffSiteEquipmentsList) offSiteEquipmentsList).mappingsCount++;
+			totalOffSiteEquipmentsSublocationsCount += offSiteEquipmentsList.size();
+		} else if (offSiteEquipmentsList != null) {
+			externalOffSiteEquipmentsListsCount++;
+		}
+	}
+
+	private void removeOffSiteEquipmentsList(List<String> offSiteEquipmentsList) {
+		if (offSiteEquipmentsList instanceof OffSiteEquipmentsList && ((OffSiteEquipmentsList) offSiteEquipmentsList).getLocation() == this) {
+			((OffSiteEquipmentsList) offSiteEquipmentsList).mappingsCount--;
+			totalOffSiteEquipmentsSublocationsCount -= offSiteEquipmentsList.size();
+		} else if (offSiteEquipmentsList != null) {
+			externalOffSiteEquipmentsListsCount--;
+		}
+	}
+
+	/**
+	 * Dictionnary of sublocation names and associated off-site equipments name list, which keeps the total count of off-site equipments of the location up to date when a list is put or removed
+	 */
+	private class OffSiteEquipmentsSublocationsMap extends AbstractMap<String, List<String>> {
+		/** Entries of the dictionnary by sublocation name, returned as is by the iterations **/
+		private final Map<String, SublocationEntry> entriesMap = new LinkedHashMap<>();
+
+		/** Entries of the dictionnary **/
+		private final Set<Map.Entry<String, List<String>>> entrySet = new AbstractSet<Map.Entry<String, List<String>>>() {
+			@Override
+			public Iterator<Map.Entry<String, List<String>>> iterator() {
+				Iterator<SublocationEntry> iterator = entriesMap.values().iterator();
+
+				return new Iterator<Map.Entry<String, List<String>>>() {
+					/** Last returned entry **/
+					private SublocationEntry entry;
+
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Map.Entry<String, List<String>> next() {
+						entry = iterator.next();
+
+						return entry;
+					}
+
+					@Override
+					public void remove() {
+						iterator.remove();
+						removeOffSiteEquipmentsList(entry.value);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return entriesMap.size();
+			}
+		};
+
+		@Override
+		public Set<Map.Entry<String, List<String>>> entrySet() {
+			return entrySet;
+		}
+
+		@Override
+		public int size() {
+			return entriesMap.size();
+		}
+
+		@Override
+		public boolean containsKey(Object sublocationName) {
+			return entriesMap.containsKey(sublocationName);
+		}
+
+		@Override
+		public List<String> get(Object sublocationName) {
+			SublocationEntry entry = entriesMap.get(sublocationName);
+
+			return (entry != null) ? entry.value : null;
+		}
+
+		@Override
+		public List<String> put(String sublocationName, List<String> offSiteEquipmentsList) {
+			SublocationEntry entry = entriesMap.get(sublocationName);
+
+			if (entry == null) {
+				entriesMap.put(sublocationName, new SublocationEntry(sublocationName, offSiteEquipmentsList));
+				addOffSiteEquipmentsList(offSiteEquipmentsList);
+
+				return null;
+			}
+
+			return entry.setValue(offSiteEquipmentsList);
+		}
+
+		@Override
+		public List<String> remove(Object sublocationName) {
+			SublocationEntry entry = entriesMap.remove(sublocationName);
+
+			if (entry == null) {
+				return null;
+			}
+
+			removeOffSiteEquipmentsList(entry.value);
+
+			return entry.value;
+		}
+
+		@Override
+		public void clear() {
+			for (SublocationEntry entry : entriesMap.values()) {
+				removeOffSiteEquipmentsList(entry.value);
+			}
+
+			entriesMap.clear();
+		}
+	}
+
+	/**
+	 * Entry of the dictionnary of sublocation names and associated off-site equipments name list
+	 */
+	private class SublocationEntry implements Map.Entry<String, List<String>> {
+		/** Sublocation name **/
+		private final String key;
+
+		/** Off-site equipments name list **/
+		private List<String> value;
+
+		SublocationEntry(String key, List<String> value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public String getKey() {
+			return key;
+		}
+
+		@Override
+		public List<String> getValue() {
+			return value;
+		}
+
+		@Override
+		public List<String> setValue(List<String> offSiteEquipmentsList) {
+			List<String> previousOffSiteEquipmentsList = value;
+
+			removeOffSiteEquipmentsList(previousOffSiteEquipmentsList);
+			addOffSiteEquipmentsList(offSiteEquipmentsList);
+			value = offSiteEquipmentsList;
+
+			return previousOffSiteEquipmentsList;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Map.Entry)) {
+				return false;
+			}
+
+			Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+
+			return Objects.equals(key, other.getKey()) && Objects.equals(value, other.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(key) ^ Objects.hashCode(value);
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+
+	/**
+	 * Off-site equipments name list of a sublocation, which keeps the total count of off-site equipments of the location up to date
+	 */
+	private class OffSiteEquipmentsList extends AbstractList<String> implements RandomAccess {
+		/** Off-site equipments name list **/
+		private final List<String> equipmentsList = new ArrayList<>();
+
+		/** Number of sublocations of the dictionnary associated to the list, each one counting its equipments in the total **/
+		private int mappingsCount;
+
+		LocationData getLocation() {
+			return LocationData.this;
+		}
+
+		@Override
+		public String get(int index) {
+			return equipmentsList.get(index);
+		}
+
+		@Override
+		public int size() {
+			return equipmentsList.size();
+		}
+
+		@Override
+		public String set(int index, String equipmentName) {
+			return equipmentsList.set(index, equipmentName);
+		}
+
+		@Override
+		public void add(int index, String equipmentName) {
+			equipmentsList.add(index, equipmentName);
+			totalOffSiteEquipmentsSublocationsCount += mappingsCount;
+			modCount++;
+		}
+
+		@Override
+		public String remove(int index) {
+			String equipmentName = equipmentsList.remove(index);
+			totalOffSiteEquipmentsSublocationsCount -= mappingsCount;
+			modCount++;
+
+			return equipmentName;
+		}
+
+		@Override
+		protected void removeRange(int fromIndex, int toIndex) {
+			equipmentsList.subList(fromIndex, toIndex).clear();
+			totalOffSiteEquipmentsSublocationsCount -= (toIndex - fromIndex) * mappingsCount;
+			modCount++;
+		}
+	}
 }
@@ -0,0 +1,137 @@
+package schedules;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Binary max-heap of the indexes of the locations having remaining equipments, keyed on the remaining count of equipments. Locations with the same count are ordered by ascending index, as for a stable sort of the locations list.
+ * <p>
+ * The locations polled for a day are kept aside and are put back with their updated count by requeuePolled(), so the heap is updated in place instead of sorting all the locations for each day.
+ */
+class LocationPriorityQueue {
+	/** Remaining count of equipments of a location index **/
+	private final IntUnaryOperator countFunction;
+
+	/** Binary max-heap of the location indexes **/
+	private final int[] heap;
+
+	/** Number of locations in the heap **/
+	private int size;
+
+	/** Location indexes polled since the last call to requeuePolled() **/
+	private final int[] polled;
+
+	/** Number of polled locations **/
+	private int polledCount;
+
+	/**
+	 * Constructor
+	 * @param locationsCount Number of locations
+	 * @param countFunction Remaining count of equipments of a location index
+	 */
+	LocationPriorityQueue(int locationsCount, IntUnaryOperator countFunction) {
+		this.countFunction = countFunction;
+		this.heap = new int[locationsCount];
+		this.size = 0;
+		this.polled = new int[locationsCount];
+		this.polledCount = 0;
+
+		for (int index = 0; index < locationsCount; index++) {
+			if (countFunction.applyAsInt(index) > 0) {
+				heap[size++] = index;
+			}
+		}
+
+		for (int position = (size / 2) - 1; position >= 0; position--) {
+			siftDown(position);
+		}
+	}
+
+	/**
+	 * Indicates if there is no more location to poll
+	 * @return true if the heap is empty
+	 */
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes the location with the highest remaining count of equipments and keeps it aside until the next call to requeuePolled()
+	 * @return the location index
+	 */
+	int poll() {
+		int index = heap[0];
+
+		size--;
+
+		if (size > 0) {
+			heap[0] = heap[size];
+			siftDown(0);
+		}
+
+		polled[polledCount++] = index;
+
+		return index;
+	}
+
+	/**
+	 * Puts back the polled locations that still have remaining equipments, with their updated count
+	 */
+	void requeuePolled() {
+		for (int i = 0; i < polledCount; i++) {
+			int index = polled[i];
+
+			if (countFunction.applyAsInt(index) > 0) {
+				heap[size] = index;
+				siftUp(size++);
+			}
+		}
+
+		polledCount = 0;
+	}
+
+	private boolean isHigher(int index, int otherIndex) {
+		int count = countFunction.applyAsInt(index);
+		int otherCount = countFunction.applyAsInt(otherIndex);
+
+		return (count > otherCount) || ((count == otherCount) && (index < otherIndex));
+	}
+
+	private void siftUp(int position) {
+		int index = heap[position];
+
+		while (position > 0) {
+			int parent = (position - 1) / 2;
+
+			if (!isHigher(index, heap[parent])) {
+				break;
+			}
+
+			heap[position] = heap[parent];
+			position = parent;
+		}
+
+		heap[position] = index;
+	}
+
+	private void siftDown(int position) {
+		int index = heap[position];
+		int half = size / 2;
+
+		while (position < half) {
+			int child = (2 * position) + 1;
+
+			if ((child + 1 < size) && isHigher(heap[child + 1], heap[child])) {
+				child++;
+			}
+
+			if (!isHigher(heap[child], index)) {
+				break;
+			}
+
+			heap[position] = heap[child];
+			position = child;
+		}
+
+		heap[position] = index;
+	}
+}
@@ -1,54 +1,361 @@
 package generators;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import generators.data.CountDistribution;
+import generators.data.LocationsGeneratorOptionsData;
+import schedules.data.CompactLocationsData;
+import schedules.data.LocationData;
+import schedules.data.StringDictionaryData;
 
 /**
  * Test locations generator
+ * <p>
+ * Each location is generated from its own random generator derived from the seed and the location id, so the same seed always gives the same locations, even from a parallel stream.
+ * <p>
+ * The binary file format is a header (magic number, version, number of locations) followed by each location: name, on-site equipments count and names, sublocations count, and for each sublocation its name, off-site equipments count and names. Each name is written as its identifier in a dictionnary, followed by the name itself the first time it appears.
  */
 public class LocationsGenerator {
-	private static final SecureRandom RANDOM = new SecureRandom();
+	/** Magic number of the binary file format **/
+	private static final int BINARY_MAGIC = 0x4C4F4347; // LOCG
+
+	/** Version of the binary file format **/
+	private static final int BINARY_VERSION = 1;
+
+	/** Increment of the seed between two locations, the golden ratio used by SplittableRandom **/
+	private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+	/** Seed of the random generator **/
+	private final long seed;
 
-	private static int random(int max) {
-		return random(0, max);
+	/** Generation options **/
+	private final LocationsGeneratorOptionsData options;
+
+	/**
+	 * Constructor with the default options
+	 * @param seed Seed of the random generator
+	 */
+	public LocationsGenerator(long seed) {
+		this(seed, new LocationsGeneratorOptionsData());
 	}
 
-	private static int random(int min, int max) {
-		return min + RANDOM.nextInt(1 + (max - min));
+	/**
+	 * Constructor
+	 * @param seed Seed of the random generator
+	 * @param options Generation options
+	 */
+	public LocationsGenerator(long seed, LocationsGeneratorOptionsData options) {
+		if ((options.getMinOnSiteEquipments() < 0) || (options.getMinOnSiteEquipments() > options.getMaxOnSiteEquipments())) {
+			throw new IllegalArgumentException("Invalid on-site equipments range " + options.getMinOnSiteEquipments() + ".." + options.getMaxOnSiteEquipments());
+		}
+
+		if ((options.getMinSublocations() < 0) || (options.getMinSublocations() > options.getMaxSublocations())) {
+			throw new IllegalArgumentException("Invalid sublocations range " + options.getMinSublocations() + ".." + options.getMaxSublocations());
+		}
+
+		if ((options.getMinOffSiteEquipments() < 1) || (options.getMinOffSiteEquipments() > options.getMaxOffSiteEquipments())) {
+			throw new IllegalArgumentException("Invalid off-site equipments range " + options.getMinOffSiteEquipments() + ".." + options.getMaxOffSiteEquipments());
+		}
+
+		if (!options.isEmptyLocationsAllowed() && (options.getMaxOnSiteEquipments() == 0) && (options.getMaxSublocations() == 0)) {
+			throw new IllegalArgumentException("Empty locations not allowed without on-site equipments nor sublocations");
+		}
+
+		this.seed = seed;
+		this.options = options;
 	}
 
-	public static void main(String[] args) {
-		System.out.println("LocationData location;");
-		System.out.println();
+	/**
+	 * Generates a list of test locations with the default options, the same seed always giving the same list
+	 * @param locationsCount Number of locations to generate
+	 * @param seed Seed of the random generator
+	 * @return the list of locations
+	 */
+	public static List<LocationData> generateLocationsList(int locationsCount, long seed) {
+		return new LocationsGenerator(seed).generateLocationsList(locationsCount);
+	}
+
+	/**
+	 * Generates a list of test locations
+	 * @param locationsCount Number of locations to generate
+	 * @return the list of locations
+	 */
+	public List<LocationData> generateLocationsList(int locationsCount) {
+		return stream(locationsCount).collect(Collectors.toList());
+	}
+
+	/**
+	 * Generates a compact storage of test locations, without keeping the generated locations
+	 * @param locationsCount Number of locations to generate
+	 * @return the compact storage of the locations
+	 */
+	public CompactLocationsData generateCompactLocations(int locationsCount) {
+		CompactLocationsData compactLocations = new CompactLocationsData();
+
+		stream(locationsCount).forEachOrdered(compactLocations::addLocation);
+
+		return compactLocations;
+	}
+
+	/**
+	 * Streams test locations, named from Loc-1 to Loc-locationsCount
+	 * @param locationsCount Number of locations to generate
+	 * @return the stream of locations
+	 */
+	public Stream<LocationData> stream(int locationsCount) {
+		return IntStream.rangeClosed(1, locationsCount).mapToObj(this::generateLocation);
+	}
+
+	/**
+	 * Generates a test location
+	 * @param locationId Location id, starting at 1
+	 * @return the location
+	 */
+	public LocationData generateLocation(int locationId) {
+		SplittableRandom random = new SplittableRandom(seed + (locationId * SEED_GAMMA));
+
+		int onSitesCount;
+		int subLocationsCount;
+
+		do {
+			onSitesCount = random(random, options.getMinOnSiteEquipments(), options.getMaxOnSiteEquipments());
+			subLocationsCount = random(random, options.getMinSublocations(), options.getMaxSublocations());
+		} while (!options.isEmptyLocationsAllowed() && onSitesCount == 0 && subLocationsCount == 0);
+
+		LocationData location = new LocationData("Loc-" + locationId);
+
+		for (int onSiteId = 1; onSiteId <= onSitesCount; onSiteId++) {
+			location.addOnSiteEquipment(getEquipmentName(onSiteId));
+		}
+
+		for (int subLocationId = 1; subLocationId <= subLocationsCount; subLocationId++) {
+			String subLocationName = "Sub" + subLocationId;
+
+			int offSitesCount = random(random, options.getMinOffSiteEquipments(), options.getMaxOffSiteEquipments());
+
+			for (int offSiteId = 1; offSiteId <= offSitesCount; offSiteId++) {
+				location.addOffSiteEquipmentToSublocation(subLocationName, getEquipmentName(offSiteId) + "-" + subLocationId);
+			}
+		}
+
+		return location;
+	}
+
+	/**
+	 * Writes test locations to a CSV file, one line per equipment with the columns location, sublocation (empty for an on-site equipment) and equipment
+	 * @param path Path of the CSV file
+	 * @param locationsCount Number of locations to generate
+	 * @throws IOException in case of write error
+	 */
+	public void writeCsv(Path path, int locationsCount) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write("location,sublocation,equipment\n");
+
+			for (int locationId = 1; locationId <= locationsCount; locationId++) {
+				LocationData location = generateLocation(locationId);
+
+				for (String equipmentName : location.getOnSiteEquipmentsList()) {
+					writer.write(location.getLocationName());
+					writer.write(",,");
+					writer.write(equipmentName);
+					writer.write('\n');
+				}
+
+				for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+					for (String equipmentName : sublocationEntry.getValue()) {
+						writer.write(location.getLocationName());
+						writer.write(',');
+						writer.write(sublocationEntry.getKey());
+						writer.write(',');
+						writer.write(equipmentName);
+						writer.write('\n');
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes test locations to a compact binary file
+	 * @param path Path of the binary file
+	 * @param locationsCount Number of locations to generate
+	 * @throws IOException in case of write error
+	 */
+	public void writeBinary(Path path, int locationsCount) throws IOException {
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+			StringDictionaryData dictionary = new StringDictionaryData();
+
+			output.writeInt(BINARY_MAGIC);
+			output.writeInt(BINARY_VERSION);
+			output.writeInt(locationsCount);
+
+			for (int locationId = 1; locationId <= locationsCount; locationId++) {
+				LocationData location = generateLocation(locationId);
+
+				writeName(output, dictionary, location.getLocationName());
+
+				output.writeInt(location.getOnSiteEquipmentsCount());
+
+				for (String equipmentName : location.getOnSiteEquipmentsList()) {
+					writeName(output, dictionary, equipmentName);
+				}
 
-		for (int locationId = 1; locationId <= 25; locationId++) {
-			int onSitesCount;
-			int subLocationsCount;
+				output.writeInt(location.getSublocationsCount());
 
-			do {
-				onSitesCount = random(10);
-				subLocationsCount = random(5);
-			} while (onSitesCount == 0 && subLocationsCount == 0);
+				for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+					writeName(output, dictionary, sublocationEntry.getKey());
 
-			System.out.println(String.format("location = new LocationData(\"Loc-%d\");", locationId));
+					output.writeInt(sublocationEntry.getValue().size());
 
-			for (int onSiteId = 1; onSiteId <= onSitesCount; onSiteId++) {
-				System.out.println(String.format("location.getOnSiteEquipmentsList().add(\"E%02d\");", onSiteId));
+					for (String equipmentName : sublocationEntry.getValue()) {
+						writeName(output, dictionary, equipmentName);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the locations of a compact binary file into a compact storage
+	 * @param path Path of the binary file
+	 * @return the compact storage of the locations
+	 * @throws IOException in case of read error or invalid file
+	 */
+	public static CompactLocationsData readBinary(Path path) throws IOException {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+			if (input.readInt() != BINARY_MAGIC) {
+				throw new IOException("Invalid locations file " + path);
+			}
+
+			int version = input.readInt();
+
+			if (version != BINARY_VERSION) {
+				throw new IOException("Unsupported locations file version " + version);
+			}
+
+			StringDictionaryData dictionary = new StringDictionaryData();
+			CompactLocationsData compactLocations = new CompactLocationsData();
+
+			int locationsCount = input.readInt();
+
+			for (int index = 0; index < locationsCount; index++) {
+				LocationData location = new LocationData(readName(input, dictionary));
+
+				int onSitesCount = input.readInt();
+
+				for (int i = 0; i < onSitesCount; i++) {
+					location.addOnSiteEquipment(readName(input, dictionary));
+				}
+
+				int subLocationsCount = input.readInt();
+
+				for (int i = 0; i < subLocationsCount; i++) {
+					String subLocationName = readName(input, dictionary);
+
+					int offSitesCount = input.readInt();
+
+					for (int j = 0; j < offSitesCount; j++) {
+						location.addOffSiteEquipmentToSublocation(subLocationName, readName(input, dictionary));
+					}
+				}
+
+				compactLocations.addLocation(location);
+			}
+
+			return compactLocations;
+		}
+	}
+
+	private static void writeName(DataOutputStream output, StringDictionaryData dictionary, String name) throws IOException {
+		int identifier = dictionary.getIdentifier(name);
+
+		if (identifier >= 0) {
+			output.writeInt(identifier);
+		} else {
+			// A new name is written once, right after its new identifier
+			output.writeInt(dictionary.intern(name));
+			output.writeUTF(name);
+		}
+	}
+
+	private static String readName(DataInputStream input, StringDictionaryData dictionary) throws IOException {
+		int identifier = input.readInt();
+
+		if (identifier < dictionary.size()) {
+			return dictionary.getString(identifier);
+		}
+
+		if (identifier != dictionary.size()) {
+			throw new IOException("Invalid name identifier " + identifier);
+		}
+
+		dictionary.intern(input.readUTF());
+
+		return dictionary.getString(identifier);
+	}
+
+	private int random(SplittableRandom random, int min, int max) {
+		if (options.getCountDistribution() == CountDistribution.GEOMETRIC) {
+			// Truncated geometric distribution, with a mean of about half the range
+			double probability = 2.0 / (max - min + 2);
+
+			while (true) {
+				int count = min + (int) (Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - probability));
+
+				if (count <= max) {
+					return count;
+				}
 			}
+		}
 
-			for (int subLocationId = 1; subLocationId <= subLocationsCount; subLocationId++) {
-				String subLocationName = String.format("Sub%d", subLocationId);
+		return random.nextInt(min, max + 1);
+	}
 
-				int offSitesCount = random(1, 5);
+	private static String getEquipmentName(int equipmentId) {
+		return (equipmentId < 10) ? "E0" + equipmentId : "E" + equipmentId;
+	}
 
-				for (int offSiteId = 1; offSiteId <= offSitesCount; offSiteId++) {
-					System.out.println(String.format("location.addOffSiteEquipmentToSublocation(\"%s\", \"E%02d-%d\");", subLocationName, offSiteId, subLocationId));
+	/**
+	 * Prints the Java source of 25 test locations for TestsHelper
+	 * @param args The seed of the random generator, a random seed being used when absent
+	 */
+	public static void main(String[] args) {
+		long seed = (args.length > 0) ? Long.parseLong(args[0]) : new SecureRandom().nextLong();
+
+		System.out.println("LocationData location;");
+		System.out.println();
+
+		new LocationsGenerator(seed).stream(25).forEachOrdered(location -> {
+			System.out.println(String.format("location = new LocationData(\"%s\");", location.getLocationName()));
+
+			for (String equipmentName : location.getOnSiteEquipmentsList()) {
+				System.out.println(String.format("location.getOnSiteEquipmentsList().add(\"%s\");", equipmentName));
+			}
+
+			for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+				for (String equipmentName : sublocationEntry.getValue()) {
+					System.out.println(String.format("location.addOffSiteEquipmentToSublocation(\"%s\", \"%s\");", sublocationEntry.getKey(), equipmentName));
 				}
 			}
 
 			System.out.println("LOCATIONS_LIST.add(location);");
 			System.out.println();
-		}
+		});
 	}
 
 }
-
@@ -0,0 +1,105 @@
+package generators.data;
+
+/**
+ * Options of the generation of test locations and its equipments
+ */
+public class LocationsGeneratorOptionsData {
+	/** Minimum number of on-site equipments of a location **/
+	private int minOnSiteEquipments;
+
+	/** Maximum number of on-site equipments of a location **/
+	private int maxOnSiteEquipments;
+
+	/** Minimum number of sublocations of a location **/
+	private int minSublocations;
+
+	/** Maximum number of sublocations of a location **/
+	private int maxSublocations;
+
+	/** Minimum number of off-site equipments of a sublocation **/
+	private int minOffSiteEquipments;
+
+	/** Maximum number of off-site equipments of a sublocation **/
+	private int maxOffSiteEquipments;
+
+	/** Distribution of the generated counts **/
+	private CountDistribution countDistribution;
+
+	/** Indicator to allow locations without any equipment **/
+	private boolean emptyLocationsAllowed;
+
+	public LocationsGeneratorOptionsData() {
+		this.minOnSiteEquipments = 0;
+		this.maxOnSiteEquipments = 10;
+		this.minSublocations = 0;
+		this.maxSublocations = 5;
+		this.minOffSiteEquipments = 1;
+		this.maxOffSiteEquipments = 5;
+		this.countDistribution = CountDistribution.UNIFORM;
+		this.emptyLocationsAllowed = false;
+	}
+
+	public int getMinOnSiteEquipments() {
+		return minOnSiteEquipments;
+	}
+
+	public void setMinOnSiteEquipments(int minOnSiteEquipments) {
+		this.minOnSiteEquipments = minOnSiteEquipments;
+	}
+
+	public int getMaxOnSiteEquipments() {
+		return maxOnSiteEquipments;
+	}
+
+	public void setMaxOnSiteEquipments(int maxOnSiteEquipments) {
+		this.maxOnSiteEquipments = maxOnSiteEquipments;
+	}
+
+	public int getMinSublocations() {
+		return minSublocations;
+	}
+
+	public void setMinSublocations(int minSublocations) {
+		this.minSublocations = minSublocations;
+	}
+
+	public int getMaxSublocations() {
+		return maxSublocations;
+	}
+
+	public void setMaxSublocations(int maxSublocations) {
+		this.maxSublocations = maxSublocations;
+	}
+
+	public int getMinOffSiteEquipments() {
+		return minOffSiteEquipments;
+	}
+
+	public void setMinOffSiteEquipments(int minOffSiteEquipments) {
+		this.minOffSiteEquipments = minOffSiteEquipments;
+	}
+
+	public int getMaxOffSiteEquipments() {
+		return maxOffSiteEquipments;
+	}
+
+	public void setMaxOffSiteEquipments(int maxOffSiteEquipments) {
+		this.maxOffSiteEquipments = maxOffSiteEquipments;
+	}
+
+	public CountDistribution getCountDistribution() {
+		return countDistribution;
+	}
+
+	public void setCountDistribution(CountDistribution countDistribution) {
+		this.countDistribution = countDistribution;
+	}
+
+	public boolean isEmptyLocationsAllowed() {
+		return emptyLocationsAllowed;
+	}
+
+	public void setEmptyLocationsAllowed(boolean emptyLocationsAllowed) {
+		this.emptyLocationsAllowed = emptyLocationsAllowed;
+	}
+}
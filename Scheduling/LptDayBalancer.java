@@ -0,0 +1,386 @@
+package schedules;
+
+import java.util.Arrays;
+import java.util.List;
+
+import schedules.data.DailyScheduleData;
+import schedules.data.LocationData;
+
+/**
+ * Balancing of the equipments of the locations over a fix number of days, scheduling all the equipments.
+ * <p>
+ * The on-site equipments of each location and the off-site equipments of each sublocation are split in two halves, the larger half holding at most 50% of the equipments rounded up, and the two halves are placed on distinct days whenever there are at least two days.
+ * The halves are placed by longest processing time first on the least loaded allowed day, then the most loaded day is repaired by moves and swaps of halves strictly reducing the sum of the squared loads, until the load of the most loaded day reaches the lower bound, no improving move or swap remains, or the time budget is elapsed.
+ */
+class LptDayBalancer {
+	/** Load added to a day to exclude it from the selection of the least loaded day **/
+	private static final int EXCLUDED_LOAD = Integer.MAX_VALUE / 2;
+
+	/** Number of repair iterations between two checks of the time budget **/
+	private static final int TIME_CHECK_INTERVAL = 64;
+
+	/** Allocation engine of the locations **/
+	private final EquipmentAllocator allocator;
+
+	/** Number of days **/
+	private final int daysCount;
+
+	/** Time budget in nanoseconds of the local search repair **/
+	private final long timeBudgetNanos;
+
+	/** Number of parts **/
+	private int partsCount;
+
+	/** Location index of each part **/
+	private int[] partsLocations;
+
+	/** Sublocation index of each part, -1 for the on-site equipments **/
+	private int[] partsSublocations;
+
+	/** Number of equipments of each part **/
+	private int[] partsSizes;
+
+	/** Index of the other half of each part, -1 when the equipments are not split **/
+	private int[] partsSiblings;
+
+	/** Day of each part **/
+	private int[] partsDays;
+
+	/** Position of each part in the parts of its day **/
+	private int[] partsPositions;
+
+	/** Parts of each day **/
+	private int[][] daysParts;
+
+	/** Number of parts of each day **/
+	private int[] daysPartsCounts;
+
+	/** Load of each day **/
+	private int[] loads;
+
+	/**
+	 * Constructor
+	 * @param allocator Allocation engine of the locations
+	 * @param daysCount Number of days
+	 * @param timeBudgetMillis Time budget in milliseconds of the local search repair
+	 */
+	LptDayBalancer(EquipmentAllocator allocator, int daysCount, long timeBudgetMillis) {
+		if (daysCount <= 0) {
+			throw new IllegalArgumentException("Invalid number of days " + daysCount);
+		}
+
+		this.allocator = allocator;
+		this.daysCount = daysCount;
+		this.timeBudgetNanos = Math.max(0L, timeBudgetMillis) * 1_000_000L;
+	}
+
+	/**
+	 * Balances the remaining equipments of the locations over the days and adds them to the first technician of each day
+	 * @param scheduleList List of the scheduled days, of the number of days of the balancer
+	 * @param sortedLocations Indexes of the locations in the order of allocation
+	 */
+	void balance(List<DailyScheduleData> scheduleList, int[] sortedLocations) {
+		createParts(sortedLocations);
+
+		placeLongestFirst();
+
+		repair();
+
+		// Allocate the parts in the order of their creation, each half being allocated after the previous one of the same equipments
+		for (int part = 0; part < partsCount; part++) {
+			List<LocationData> locations = scheduleList.get(partsDays[part]).getTechniciansLocationsMap().values().iterator().next();
+
+			if (partsSublocations[part] < 0) {
+				locations.add(allocator.allocateOnSite(partsLocations[part], partsSizes[part]));
+			} else {
+				LocationData dayLocation = allocator.createLocation(partsLocations[part]);
+				allocator.allocateOffSite(partsSublocations[part], partsSizes[part], dayLocation);
+
+				locations.add(dayLocation);
+			}
+		}
+	}
+
+	/**
+	 * Extracts the load of each day after the balance
+	 * @return the load of each day
+	 */
+	int[] getLoads() {
+		return loads.clone();
+	}
+
+	private void createParts(int[] sortedLocations) {
+		int capacity = 16;
+
+		partsLocations = new int[capacity];
+		partsSublocations = new int[capacity];
+		partsSizes = new int[capacity];
+		partsSiblings = new int[capacity];
+		partsCount = 0;
+
+		for (int index : sortedLocations) {
+			addParts(index, -1, allocator.getRemainingOnSiteCount(index));
+
+			if (allocator.getRemainingOffSiteCount(index) > 0) {
+				for (int sublocation : allocator.getSublocationsIndexesByDescendingCount(index)) {
+					addParts(index, sublocation, allocator.getRemainingSublocationCount(sublocation));
+				}
+			}
+		}
+
+		partsDays = new int[partsCount];
+		partsPositions = new int[partsCount];
+
+		Arrays.fill(partsDays, -1);
+	}
+
+	private void addParts(int index, int sublocation, int count) {
+		if (count == 0) {
+			return;
+		}
+
+		if (partsCount + 2 > partsSizes.length) {
+			int capacity = partsSizes.length * 2;
+
+			partsLocations = Arrays.copyOf(partsLocations, capacity);
+			partsSublocations = Arrays.copyOf(partsSublocations, capacity);
+			partsSizes = Arrays.copyOf(partsSizes, capacity);
+			partsSiblings = Arrays.copyOf(partsSiblings, capacity);
+		}
+
+		if (count == 1) {
+			addPart(index, sublocation, 1, -1);
+		} else {
+			// 50% rule, the larger half first
+			int half = SplitRule.getFirstDayLimit(count);
+
+			addPart(index, sublocation, half, partsCount + 1);
+			addPart(index, sublocation, count - half, partsCount - 1);
+		}
+	}
+
+	private void addPart(int index, int sublocation, int size, int sibling) {
+		partsLocations[partsCount] = index;
+		partsSublocations[partsCount] = sublocation;
+		partsSizes[partsCount] = size;
+		partsSiblings[partsCount] = sibling;
+		partsCount++;
+	}
+
+	private void placeLongestFirst() {
+		daysParts = new int[daysCount][];
+		daysPartsCounts = new int[daysCount];
+		loads = new int[daysCount];
+
+		int partsPerDay = Math.max(4, (partsCount / daysCount) + 1);
+
+		for (int day = 0; day < daysCount; day++) {
+			daysParts[day] = new int[partsPerDay];
+		}
+
+		DayLoadHeap heap = new DayLoadHeap(loads);
+
+		for (int part : getPartsByDescendingSize()) {
+			int siblingDay = getSiblingDay(part);
+			int day = heap.getLeastLoadedDay();
+
+			if ((day == siblingDay) && (daysCount > 1)) {
+				// Exclude the day of the other half for the selection
+				heap.addLoad(siblingDay, EXCLUDED_LOAD);
+				day = heap.getLeastLoadedDay();
+				heap.addLoad(siblingDay, -EXCLUDED_LOAD);
+			}
+
+			addToDay(part, day);
+			loads[day] += partsSizes[part];
+			heap.addLoad(day, partsSizes[part]);
+		}
+	}
+
+	private int[] getPartsByDescendingSize() {
+		// Counting sort by size, keeping the order of creation for equal sizes so the larger half is placed before the other one
+		int maxSize = 0;
+
+		for (int part = 0; part < partsCount; part++) {
+			maxSize = Math.max(maxSize, partsSizes[part]);
+		}
+
+		int[] starts = new int[maxSize + 2];
+
+		for (int part = 0; part < partsCount; part++) {
+			starts[maxSize - partsSizes[part] + 1]++;
+		}
+
+		for (int i = 1; i < starts.length; i++) {
+			starts[i] += starts[i - 1];
+		}
+
+		int[] sortedParts = new int[partsCount];
+
+		for (int part = 0; part < partsCount; part++) {
+			sortedParts[starts[maxSize - partsSizes[part]]++] = part;
+		}
+
+		return sortedParts;
+	}
+
+	private void repair() {
+		if ((daysCount < 2) || (partsCount == 0)) {
+			return;
+		}
+
+		long totalLoad = 0;
+		int maxSize = 0;
+
+		for (int part = 0; part < partsCount; part++) {
+			totalLoad += partsSizes[part];
+			maxSize = Math.max(maxSize, partsSizes[part]);
+		}
+
+		// No schedule can have a most loaded day under the average load or the largest part
+		int lowerBound = (int) Math.max(maxSize, (totalLoad + daysCount - 1) / daysCount);
+
+		long deadline = System.nanoTime() + timeBudgetNanos;
+		int iterations = 0;
+
+		while (true) {
+			int maxDay = 0;
+
+			for (int day = 1; day < daysCount; day++) {
+				if (loads[day] > loads[maxDay]) {
+					maxDay = day;
+				}
+			}
+
+			if ((loads[maxDay] <= lowerBound) || (!moveFromDay(maxDay) && !swapFromDay(maxDay, deadline))) {
+				break;
+			}
+
+			if ((++iterations % TIME_CHECK_INTERVAL == 0) && (System.nanoTime() - deadline > 0)) {
+				break;
+			}
+		}
+	}
+
+	private boolean moveFromDay(int maxDay) {
+		int minDay = -1;
+		int secondMinDay = -1;
+
+		for (int day = 0; day < daysCount; day++) {
+			if (day == maxDay) {
+				continue;
+			}
+
+			if ((minDay < 0) || (loads[day] < loads[minDay])) {
+				secondMinDay = minDay;
+				minDay = day;
+			} else if ((secondMinDay < 0) || (loads[day] < loads[secondMinDay])) {
+				secondMinDay = day;
+			}
+		}
+
+		int bestPart = -1;
+		int bestDay = -1;
+		int bestLoad = loads[maxDay];
+
+		for (int i = 0; i < daysPartsCounts[maxDay]; i++) {
+			int part = daysParts[maxDay][i];
+			int day = (getSiblingDay(part) == minDay) ? secondMinDay : minDay;
+
+			if (day < 0) {
+				continue;
+			}
+
+			// Larger of the two loads after the move, improving when under the load of the most loaded day
+			int load = Math.max(loads[maxDay] - partsSizes[part], loads[day] + partsSizes[part]);
+
+			if (load < bestLoad) {
+				bestPart = part;
+				bestDay = day;
+				bestLoad = load;
+			}
+		}
+
+		if (bestPart < 0) {
+			return false;
+		}
+
+		moveToDay(bestPart, bestDay);
+
+		return true;
+	}
+
+	private boolean swapFromDay(int maxDay, long deadline) {
+		int iterations = 0;
+
+		for (int day = 0; day < daysCount; day++) {
+			int gap = loads[maxDay] - loads[day];
+
+			if ((day == maxDay) || (gap <= 1)) {
+				continue;
+			}
+
+			if (System.nanoTime() - deadline > 0) {
+				return false;
+			}
+
+			for (int i = 0; i < daysPartsCounts[maxDay]; i++) {
+				int part = daysParts[maxDay][i];
+
+				if (getSiblingDay(part) == day) {
+					continue;
+				}
+
+				for (int j = 0; j < daysPartsCounts[day]; j++) {
+					// The pairs of parts of two days can be numerous, so the time budget is also checked while scanning them
+					if ((++iterations % TIME_CHECK_INTERVAL == 0) && (System.nanoTime() - deadline > 0)) {
+						return false;
+					}
+
+					int otherPart = daysParts[day][j];
+					int difference = partsSizes[part] - partsSizes[otherPart];
+
+					// The swap improves when the difference of sizes is strictly between 0 and the gap of loads
+					if ((difference > 0) && (difference < gap) && (getSiblingDay(otherPart) != maxDay)) {
+						moveToDay(part, day);
+						moveToDay(otherPart, maxDay);
+
+						return true;
+					}
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private int getSiblingDay(int part) {
+		int sibling = partsSiblings[part];
+
+		return (sibling < 0) ? -1 : partsDays[sibling];
+	}
+
+	private void addToDay(int part, int day) {
+		if (daysPartsCounts[day] == daysParts[day].length) {
+			daysParts[day] = Arrays.copyOf(daysParts[day], daysParts[day].length * 2);
+		}
+
+		partsDays[part] = day;
+		partsPositions[part] = daysPartsCounts[day];
+		daysParts[day][daysPartsCounts[day]++] = part;
+	}
+
+	private void moveToDay(int part, int day) {
+		int previousDay = partsDays[part];
+
+		// Remove the part from its previous day by moving the last part of the day to its position
+		int lastPart = daysParts[previousDay][--daysPartsCounts[previousDay]];
+		daysParts[previousDay][partsPositions[part]] = lastPart;
+		partsPositions[lastPart] = partsPositions[part];
+
+		loads[previousDay] -= partsSizes[part];
+		loads[day] += partsSizes[part];
+
+		addToDay(part, day);
+	}
+}
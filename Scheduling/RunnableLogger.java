@@ -0,0 +1,453 @@
+package outils.loggers;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import outils.loggers.data.RunnableLoggerEntryData;
+
+/**
+ * Classe qui implémente une journalisation sur un fil d'exécution (thread)
+ * @author Claude Toupin - 16 août 2024
+ */
+public class RunnableLogger implements Runnable {
+	/** Capacité par défaut de la file des entrées à journaliser **/
+	public static final int DEFAULT_CAPACITY = 1 << 16;
+
+	/** Délai d'attente minimal avant une journalisation adaptative, pour regrouper les entrées qui arrivent ensemble **/
+	private static final long MIN_FLUSH_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	/** Délai d'attente maximal avant une journalisation adaptative sous une charge soutenue, égal au délai de la journalisation à délai fixe **/
+	private static final long MAX_FLUSH_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+	/** File bornée et sans verrou des entrées à journaliser **/
+	private final RunnableLoggerQueue entriesQueue;
+
+	/** Taille au-delà de laquelle le texte réutilisé des messages est remplacé après une journalisation **/
+	private static final int MAX_MESSAGE_BUILDER_CAPACITY = 1 << 16;
+
+	/** Nombre total d'entrées rejetées par la politique de débordement et déjà journalisées **/
+	private volatile long totalDroppedCount;
+
+	/** Indicateur d'une journalisation en cours, les entrées n'étant journalisées que par un fil d'exécution à la fois **/
+	private final AtomicBoolean flushing;
+
+	/** Texte réutilisé des messages journalisés, seulement par le fil d'exécution de la journalisation en cours **/
+	private StringBuilder messageBuilder;
+
+	/** Journalisation de chaque entrée retirée de la file, créée une seule fois **/
+	private final Consumer<RunnableLoggerEntryData> entryConsumer;
+
+	/** Instance de journalisation **/
+	private final Logger logger;
+
+	/** Planificateur de la journalisation **/
+	private final ScheduledExecutorService scheduler;
+
+	/** Mode de planification de la journalisation **/
+	private final RunnableLoggerFlushMode flushMode;
+
+	/** Nombre d'entrées en attente à partir duquel la journalisation adaptative est immédiate **/
+	private final int highWaterMark;
+
+	/** Fil d'exécution de la journalisation adaptative **/
+	private volatile Thread flushThread;
+
+	/** Indicateur du fil d'exécution de la journalisation adaptative en attente d'une entrée **/
+	private volatile boolean flushThreadParked;
+
+	/** Indicateur d'une journalisation adaptative immédiate demandée par un producteur **/
+	private volatile boolean flushRequested;
+
+	/** Indicateur de textes courts pour un message de niveau info **/
+	private boolean shortLogInfo;
+
+	/**
+	 * Constructeur de base
+	 */
+	public RunnableLogger() {
+		this(true);
+	}
+
+	/**
+	 * Constructeur de base
+	 * @param shortLogInfo Indicateur de textes courts pour un message de niveau info
+	 */
+	public RunnableLogger(boolean shortLogInfo) {
+		this(shortLogInfo, DEFAULT_CAPACITY, RunnableLoggerOverflowPolicy.DROP_BELOW_LEVEL, Level.WARNING);
+	}
+
+	/**
+	 * Constructeur de base
+	 * @param shortLogInfo Indicateur de textes courts pour un message de niveau info
+	 * @param capacity Capacité de la file des entrées à journaliser, arrondie à la puissance de 2 supérieure
+	 * @param overflowPolicy Politique de débordement lorsque la file est pleine
+	 */
+	public RunnableLogger(boolean shortLogInfo, int capacity, RunnableLoggerOverflowPolicy overflowPolicy) {
+		this(shortLogInfo, capacity, overflowPolicy, Level.WARNING);
+	}
+
+	/**
+	 * Constructeur de base
+	 * @param shortLogInfo Indicateur de textes courts pour un message de niveau info
+	 * @param capacity Capacité de la file des entrées à journaliser, arrondie à la puissance de 2 supérieure
+	 * @param overflowPolicy Politique de débordement lorsque la file est pleine
+	 * @param dropLevel Niveau sous lequel les entrées sont rejetées par la politique DROP_BELOW_LEVEL
+	 */
+	public RunnableLogger(boolean shortLogInfo, int capacity, RunnableLoggerOverflowPolicy overflowPolicy, Level dropLevel) {
+		this(shortLogInfo, capacity, overflowPolicy, dropLevel, RunnableLoggerFlushMode.ADAPTIVE);
+	}
+
+	/**
+	 * Constructeur de base
+	 * @param shortLogInfo Indicateur de textes courts pour un message de niveau info
+	 * @param capacity Capacité de la file des entrées à journaliser, arrondie à la puissance de 2 supérieure
+	 * @param overflowPolicy Politique de débordement lorsque la file est pleine
+	 * @param dropLevel Niveau sous lequel les entrées sont rejetées par la politique DROP_BELOW_LEVEL
+	 * @param flushMode Mode de planification de la journalisation
+	 */
+	public RunnableLogger(boolean shortLogInfo, int capacity, RunnableLoggerOverflowPolicy overflowPolicy, Level dropLevel, RunnableLoggerFlushMode flushMode) {
+		this.shortLogInfo = shortLogInfo;
+		this.entriesQueue = new RunnableLoggerQueue(capacity, overflowPolicy, dropLevel);
+		this.totalDroppedCount = 0;
+		this.flushing = new AtomicBoolean(false);
+		this.messageBuilder = new StringBuilder(256);
+		this.entryConsumer = this::logEntry;
+		this.logger = Logger.getLogger(RunnableLogger.class.getName());
+		this.scheduler = Executors.newSingleThreadScheduledExecutor();
+		this.flushMode = flushMode;
+		this.highWaterMark = Math.max(1, entriesQueue.capacity() / 2);
+		this.flushThread = null;
+		this.flushThreadParked = false;
+		this.flushRequested = false;
+
+		if (RunnableLoggerFlushMode.FIXED_DELAY.equals(flushMode)) {
+			this.scheduler.scheduleWithFixedDelay(this, 250, 500, TimeUnit.MILLISECONDS);
+		} else {
+			this.scheduler.execute(this::flushAdaptively);
+		}
+	}
+
+	/**
+	 * Fin de l'exécution planifiée
+	 */
+	public void shutdown() {
+		scheduler.shutdownNow();
+
+		try {
+			scheduler.awaitTermination(2, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			// Ignore...
+		}
+	}
+
+	/**
+	 * Ajout d'une entrée au journal
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param message Message à journaliser
+	 */
+	public void log(String name, Level level, String message) {
+		if (logger.isLoggable(level)) {
+			offer(name, level, message, null, null, null);
+		}
+	}
+
+	/**
+	 * Ajout d'une entrée au journal
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param message Message à journaliser
+	 * @param thrown Erreur associée au message
+	 */
+	public void log(String name, Level level, String message, Throwable thrown) {
+		if (logger.isLoggable(level)) {
+			offer(name, level, message, null, null, thrown);
+		}
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message n'est produit que par la journalisation, et seulement si le niveau est journalisé
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param messageSupplier Fournisseur du message à journaliser
+	 */
+	public void log(String name, Level level, Supplier<String> messageSupplier) {
+		if (logger.isLoggable(level)) {
+			offer(name, level, null, messageSupplier, null, null);
+		}
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message n'est produit que par la journalisation, et seulement si le niveau est journalisé
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param thrown Erreur associée au message
+	 * @param messageSupplier Fournisseur du message à journaliser
+	 */
+	public void log(String name, Level level, Throwable thrown, Supplier<String> messageSupplier) {
+		if (logger.isLoggable(level)) {
+			offer(name, level, null, messageSupplier, null, thrown);
+		}
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message est formaté par la journalisation, et seulement si le niveau est journalisé
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param pattern Modèle du message à journaliser, {0} étant remplacé par le paramètre
+	 * @param parameter Paramètre du message
+	 */
+	public void log(String name, Level level, String pattern, Object parameter) {
+		if (logger.isLoggable(level)) {
+			offer(name, level, pattern, 1, parameter, null);
+		}
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message est formaté par la journalisation, et seulement si le niveau est journalisé
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param pattern Modèle du message à journaliser, {0} et {1} étant remplacés par les paramètres
+	 * @param parameter0 Premier paramètre du message
+	 * @param parameter1 Deuxième paramètre du message
+	 */
+	public void log(String name, Level level, String pattern, Object parameter0, Object parameter1) {
+		if (logger.isLoggable(level)) {
+			offer(name, level, pattern, 2, parameter0, parameter1);
+		}
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message est formaté par la journalisation, et seulement si le niveau est journalisé
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param pattern Modèle du message à journaliser, {n} étant remplacé par le paramètre d'index n
+	 * @param parameters Paramètres du message
+	 */
+	public void log(String name, Level level, String pattern, Object... parameters) {
+		if (logger.isLoggable(level)) {
+			offer(name, level, pattern, null, parameters, null);
+		}
+	}
+
+	/**
+	 * Indique si un niveau de message est journalisé, pour éviter de construire un message qui serait ignoré
+	 * @param level Niveau du message
+	 * @return vrai si le niveau est journalisé
+	 */
+	public boolean isLoggable(Level level) {
+		return logger.isLoggable(level);
+	}
+
+	/**
+	 * Ajout d'une entrée à la file dans une case préallouée
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param message Message à journaliser ou modèle du message
+	 * @param messageSupplier Fournisseur du message à journaliser
+	 * @param parameters Paramètres du modèle du message
+	 * @param thrown Erreur associée au message
+	 */
+	private void offer(String name, Level level, String message, Supplier<String> messageSupplier, Object[] parameters, Throwable thrown) {
+		long position = entriesQueue.claim(level);
+
+		if (position < 0) {
+			return;
+		}
+
+		entriesQueue.getEntry(position).set(name, level, message, messageSupplier, parameters, thrown);
+		publish(position, level);
+	}
+
+	/**
+	 * Ajout d'une entrée à un ou deux paramètres à la file dans une case préallouée, sans allouer de tableau de paramètres
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param pattern Modèle du message
+	 * @param parametersCount Nombre de paramètres du modèle du message, 1 ou 2
+	 * @param parameter0 Premier paramètre du modèle du message
+	 * @param parameter1 Deuxième paramètre du modèle du message
+	 */
+	private void offer(String name, Level level, String pattern, int parametersCount, Object parameter0, Object parameter1) {
+		long position = entriesQueue.claim(level);
+
+		if (position < 0) {
+			return;
+		}
+
+		entriesQueue.getEntry(position).set(name, level, pattern, parametersCount, parameter0, parameter1);
+		publish(position, level);
+	}
+
+	/**
+	 * Publication d'une entrée remplie, en réveillant la journalisation adaptative au besoin
+	 * @param position Position de l'entrée dans la file
+	 * @param level Niveau du message
+	 */
+	private void publish(long position, Level level) {
+		entriesQueue.publish(position);
+
+		if (RunnableLoggerFlushMode.FIXED_DELAY.equals(flushMode)) {
+			return;
+		}
+
+		if ((level.intValue() >= Level.SEVERE.intValue()) || (entriesQueue.size() >= highWaterMark)) {
+			// Journalisation immédiate, sans attendre le regroupement des entrées
+			flushRequested = true;
+			LockSupport.unpark(flushThread);
+		} else if (flushThreadParked) {
+			LockSupport.unpark(flushThread);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Runnable#run()
+	 */
+	@Override
+	public void run() {
+		if (!flushing.compareAndSet(false, true)) {
+			// Une autre journalisation est en cours et retirera les entrées en attente
+			return;
+		}
+
+		try {
+			flush();
+		} finally {
+			flushing.set(false);
+		}
+	}
+
+	private void flush() {
+		// Les entrées rejetées depuis la dernière journalisation sont signalées en premier
+		long droppedCount = entriesQueue.takeDroppedCount();
+
+		if (droppedCount > 0) {
+			totalDroppedCount += droppedCount;
+
+			logger.log(Level.WARNING, "for " + RunnableLogger.class.getName() + ": " + droppedCount + " entries dropped by the overflow policy " + entriesQueue.getOverflowPolicy() + " (" + totalDroppedCount + " in total)");
+		}
+
+		// Les entrées en attente sont retirées sans verrou, les producteurs n'étant jamais bloqués pendant la journalisation
+		entriesQueue.drain(entryConsumer);
+	}
+
+	/**
+	 * Journalisation adaptative jusqu'à la fin de l'exécution planifiée. Le fil d'exécution est suspendu tant que la file est vide, puis attend un court délai pour regrouper les entrées qui arrivent ensemble.
+	 * Ce délai double tant que la file n'est pas vidée par une journalisation, jusqu'au délai de la journalisation à délai fixe, et revient au minimum dès qu'elle l'est.
+	 * Une entrée de niveau SEVERE ou une file atteignant la moitié de sa capacité interrompt le délai pour une journalisation immédiate
+	 */
+	private void flushAdaptively() {
+		flushThread = Thread.currentThread();
+
+		long flushDelayNanos = MIN_FLUSH_DELAY_NANOS;
+
+		while (!Thread.currentThread().isInterrupted()) {
+			if (entriesQueue.isEmpty() && (entriesQueue.peekDroppedCount() == 0)) {
+				flushThreadParked = true;
+
+				// Nouvelle vérification après l'indicateur, pour ne pas manquer une entrée ajoutée entre-temps
+				if (entriesQueue.isEmpty()) {
+					LockSupport.park(this);
+				}
+
+				flushThreadParked = false;
+				flushDelayNanos = MIN_FLUSH_DELAY_NANOS;
+				continue;
+			}
+
+			if (!flushRequested) {
+				LockSupport.parkNanos(this, flushDelayNanos);
+			}
+
+			flushRequested = false;
+
+			run();
+
+			if (entriesQueue.isEmpty()) {
+				flushDelayNanos = MIN_FLUSH_DELAY_NANOS;
+			} else {
+				// Charge soutenue: le délai est allongé pour regrouper davantage d'entrées par journalisation
+				flushDelayNanos = Math.min(flushDelayNanos * 2, MAX_FLUSH_DELAY_NANOS);
+			}
+		}
+
+		// Les entrées restantes sont journalisées avant la fin
+		run();
+	}
+
+	/**
+	 * Journalisation d'une entrée, réutilisée dès le retour de la méthode et ne devant donc pas être conservée
+	 * @param entry Entrée à journaliser
+	 */
+	protected void logEntry(RunnableLoggerEntryData entry) {
+		StringBuilder builder = messageBuilder;
+		builder.setLength(0);
+
+		if (!shortLogInfo || !Level.INFO.equals(entry.getLevel())) {
+			builder.append("for ");
+		}
+
+		builder.append(entry.getName()).append(": ");
+
+		try {
+			// Le message est produit ou formaté ici, sur le fil d'exécution de la journalisation
+			entry.appendMessage(builder);
+		} catch (RuntimeException e) {
+			// Une erreur du fournisseur du message ne doit pas interrompre la journalisation des autres entrées
+			logger.log(entry.getLevel(), builder.append("message unavailable (").append(e).append(')').toString(), e);
+			return;
+		}
+
+		if (entry.getThrown() == null) {
+			logger.log(entry.getLevel(), builder.toString());
+		} else {
+			logger.log(entry.getLevel(), builder.toString(), entry.getThrown());
+		}
+
+		if (builder.capacity() > MAX_MESSAGE_BUILDER_CAPACITY) {
+			// Un message exceptionnellement long ne retient pas sa mémoire jusqu'à la fin de la journalisation
+			messageBuilder = new StringBuilder(256);
+		}
+	}
+
+	/**
+	 * Extrait le nombre total d'entrées rejetées par la politique de débordement
+	 * @return le nombre total d'entrées rejetées, y compris celles pas encore signalées
+	 */
+	public long getDroppedCount() {
+		return totalDroppedCount + entriesQueue.peekDroppedCount();
+	}
+
+	/**
+	 * Extrait le champ flushMode
+	 * @return un RunnableLoggerFlushMode
+	 */
+	public RunnableLoggerFlushMode getFlushMode() {
+		return flushMode;
+	}
+
+	/**
+	 * Extrait le champ shortLogInfo
+	 * @return un boolean
+	 */
+	public boolean isShortLogInfo() {
+		return shortLogInfo;
+	}
+
+	/**
+	 * Modifie le champ shortLogInfo
+	 * @param shortLogInfo La valeur du champ shortLogInfo
+	 */
+	public void setShortLogInfo(boolean shortLogInfo) {
+		this.shortLogInfo = shortLogInfo;
+	}
+
+}
@@ -0,0 +1,178 @@
+package outils.loggers.data;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import outils.loggers.RunnableLogger;
+
+/**
+ * Classe des données pour la journalisation sur un fil d'exécution (thread)
+ * @author Claude Toupin - 16 août 2024
+ */
+public class RunnableLoggerData {
+	/** Instance de la journalisation sur un fil d'exécution (thread) **/
+	private final RunnableLogger runnableLogger;
+
+	/** Classe source de la journalisation **/
+	private final Class<?> forClass;
+
+	/** Nom de la classe **/
+	private final String name;
+
+	/** Nom simple de la classe **/
+	private final String simpleName;
+
+	/**
+	 * Constructeur de base
+	 * @param runnableLogger Instance de la journalisation sur un fil d'exécution (thread)
+	 * @param forClass Classe source de la journalisation
+	 */
+	public RunnableLoggerData(RunnableLogger runnableLogger, Class<?> forClass) {
+		this.runnableLogger = runnableLogger;
+		this.forClass = forClass;
+		this.name = forClass.getName();
+		this.simpleName = forClass.getSimpleName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "RunnableLoggerData [forClass=" + forClass + "]";
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RunnableLoggerData other = (RunnableLoggerData) obj;
+		return Objects.equals(forClass, other.forClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(forClass);
+	}
+
+	/**
+	 * Extrait le nom de la classe source à utiliser
+	 * @param level Niveau du message
+	 * @return le nom de la classe source à utiliser
+	 */
+	protected String getLogName(Level level) {
+		if (runnableLogger.isShortLogInfo() && Level.INFO.equals(level)) {
+			return simpleName;
+		}
+
+		return name;
+	}
+
+	/**
+	 * Ajout d'une entrée au journal
+	 * @param level Niveau du message
+	 * @param message Message à journaliser
+	 */
+	public void log(Level level, String message) {
+		runnableLogger.log(getLogName(level), level, message);
+	}
+
+	/**
+	 * Ajout d'une entrée au journal
+	 * @param level Niveau du message
+	 * @param message Message à journaliser
+	 * @param thrown Erreur associée au message
+	 */
+	public void log(Level level, String message, Throwable thrown) {
+		runnableLogger.log(getLogName(level), level, message, thrown);
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message n'est produit que par la journalisation, et seulement si le niveau est journalisé
+	 * @param level Niveau du message
+	 * @param messageSupplier Fournisseur du message à journaliser
+	 */
+	public void log(Level level, Supplier<String> messageSupplier) {
+		runnableLogger.log(getLogName(level), level, messageSupplier);
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message n'est produit que par la journalisation, et seulement si le niveau est journalisé
+	 * @param level Niveau du message
+	 * @param thrown Erreur associée au message
+	 * @param messageSupplier Fournisseur du message à journaliser
+	 */
+	public void log(Level level, Throwable thrown, Supplier<String> messageSupplier) {
+		runnableLogger.log(getLogName(level), level, thrown, messageSupplier);
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message est formaté par la journalisation, et seulement si le niveau est journalisé
+	 * @param level Niveau du message
+	 * @param pattern Modèle du message à journaliser, {0} étant remplacé par le paramètre
+	 * @param parameter Paramètre du message
+	 */
+	public void log(Level level, String pattern, Object parameter) {
+		runnableLogger.log(getLogName(level), level, pattern, parameter);
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message est formaté par la journalisation, et seulement si le niveau est journalisé
+	 * @param level Niveau du message
+	 * @param pattern Modèle du message à journaliser, {0} et {1} étant remplacés par les paramètres
+	 * @param parameter0 Premier paramètre du message
+	 * @param parameter1 Deuxième paramètre du message
+	 */
+	public void log(Level level, String pattern, Object parameter0, Object parameter1) {
+		runnableLogger.log(getLogName(level), level, pattern, parameter0, parameter1);
+	}
+
+	/**
+	 * Ajout d'une entrée au journal dont le message est formaté par la journalisation, et seulement si le niveau est journalisé
+	 * @param level Niveau du message
+	 * @param pattern Modèle du message à journaliser, {n} étant remplacé par le paramètre d'index n
+	 * @param parameters Paramètres du message
+	 */
+	public void log(Level level, String pattern, Object... parameters) {
+		runnableLogger.log(getLogName(level), level, pattern, parameters);
+	}
+
+	/**
+	 * Indique si un niveau de message est journalisé, pour éviter de construire un message qui serait ignoré
+	 * @param level Niveau du message
+	 * @return vrai si le niveau est journalisé
+	 */
+	public boolean isLoggable(Level level) {
+		return runnableLogger.isLoggable(level);
+	}
+
+	/**
+	 * Extrait le champ runnableLogger
+	 * @return un RunnableLogger
+	 */
+	public RunnableLogger getRunnableLogger() {
+		return runnableLogger;
+	}
+
+	/**
+	 * Extrait le champ forClass
+	 * @return un Class<?>
+	 */
+	public Class<?> getForClass() {
+		return forClass;
+	}
+}
@@ -0,0 +1,322 @@
+package outils.loggers.data;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Classe des données d'une entrée à journaliser
+ * @author Claude Toupin - 16 août 2024
+ */
+public class RunnableLoggerEntryData {
+	/** Nom de la journalisation **/
+	private String name;
+
+	/** Niveau du message **/
+	private Level level;
+
+	/** Message à journaliser, ou modèle du message lorsqu'il a des paramètres **/
+	private String message;
+
+	/** Fournisseur du message à journaliser, null si le message est donné **/
+	private Supplier<String> messageSupplier;
+
+	/** Paramètres du modèle du message, null si le message n'est pas formaté ou si ses paramètres sont conservés dans les champs parameter0 et parameter1 **/
+	private Object[] parameters;
+
+	/** Nombre de paramètres du modèle du message conservés dans les champs parameter0 et parameter1, sans allocation d'un tableau de paramètres **/
+	private int parametersCount;
+
+	/** Premier paramètre du modèle du message, lorsque parametersCount vaut 1 ou 2 **/
+	private Object parameter0;
+
+	/** Deuxième paramètre du modèle du message, lorsque parametersCount vaut 2 **/
+	private Object parameter1;
+
+	/** Erreur associée au message **/
+	private Throwable thrown;
+
+	/**
+	 * Constructeur d'une entrée vide, à remplir par la méthode set
+	 */
+	public RunnableLoggerEntryData() {
+		this(null, null, (String) null, (Throwable) null);
+	}
+
+	/**
+	 * Constructeur de base
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param message Message à journaliser
+	 */
+	public RunnableLoggerEntryData(String name, Level level, String message) {
+		this(name, level, message, (Throwable) null);
+	}
+
+	/**
+	 * Constructeur de base
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param message Message à journaliser
+	 * @param thrown Erreur associée au message
+	 */
+	public RunnableLoggerEntryData(String name, Level level, String message, Throwable thrown) {
+		this.name = name;
+		this.level = level;
+		this.message = message;
+		this.messageSupplier = null;
+		this.parameters = null;
+		this.thrown = thrown;
+	}
+
+	/**
+	 * Constructeur de base
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param messageSupplier Fournisseur du message à journaliser
+	 * @param thrown Erreur associée au message
+	 */
+	public RunnableLoggerEntryData(String name, Level level, Supplier<String> messageSupplier, Throwable thrown) {
+		this.name = name;
+		this.level = level;
+		this.message = null;
+		this.messageSupplier = messageSupplier;
+		this.parameters = null;
+		this.thrown = thrown;
+	}
+
+	/**
+	 * Constructeur de base
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param pattern Modèle du message à journaliser, {n} étant remplacé par le paramètre d'index n
+	 * @param parameters Paramètres du modèle du message
+	 */
+	public RunnableLoggerEntryData(String name, Level level, String pattern, Object[] parameters) {
+		this.name = name;
+		this.level = level;
+		this.message = pattern;
+		this.messageSupplier = null;
+		this.parameters = parameters;
+		this.thrown = null;
+	}
+
+	/**
+	 * Remplit l'entrée, pour réutiliser une entrée préallouée
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param message Message à journaliser, ou modèle du message lorsqu'il a des paramètres
+	 * @param messageSupplier Fournisseur du message à journaliser, null si le message est donné
+	 * @param parameters Paramètres du modèle du message, null si le message n'est pas formaté
+	 * @param thrown Erreur associée au message
+	 */
+	public void set(String name, Level level, String message, Supplier<String> messageSupplier, Object[] parameters, Throwable thrown) {
+		this.name = name;
+		this.level = level;
+		this.message = message;
+		this.messageSupplier = messageSupplier;
+		this.parameters = parameters;
+		this.parametersCount = 0;
+		this.parameter0 = null;
+		this.parameter1 = null;
+		this.thrown = thrown;
+	}
+
+	/**
+	 * Remplit l'entrée d'un message formaté à un ou deux paramètres, sans allouer de tableau de paramètres
+	 * @param name Nom de la journalisation
+	 * @param level Niveau du message
+	 * @param pattern Modèle du message à journaliser, {0} et {1} étant remplacés par les paramètres
+	 * @param parametersCount Nombre de paramètres du modèle du message, 1 ou 2
+	 * @param parameter0 Premier paramètre du modèle du message
+	 * @param parameter1 Deuxième paramètre du modèle du message, ignoré s'il n'y a qu'un paramètre
+	 */
+	public void set(String name, Level level, String pattern, int parametersCount, Object parameter0, Object parameter1) {
+		set(name, level, pattern, null, null, null);
+
+		this.parametersCount = parametersCount;
+		this.parameter0 = parameter0;
+		this.parameter1 = (parametersCount > 1) ? parameter1 : null;
+	}
+
+	/**
+	 * Remplit l'entrée par une copie d'une autre entrée
+	 * @param entry Entrée à copier
+	 */
+	public void set(RunnableLoggerEntryData entry) {
+		set(entry.name, entry.level, entry.message, entry.messageSupplier, entry.parameters, entry.thrown);
+
+		this.parametersCount = entry.parametersCount;
+		this.parameter0 = entry.parameter0;
+		this.parameter1 = entry.parameter1;
+	}
+
+	/**
+	 * Vide l'entrée, pour ne pas retenir ses références jusqu'à sa réutilisation
+	 */
+	public void clear() {
+		set(null, null, null, null, null, null);
+	}
+
+	/**
+	 * Ajout du message à journaliser, produit par son fournisseur ou formaté à partir de son modèle à chaque appel
+	 * @param builder Texte auquel ajouter le message
+	 * @return le texte
+	 */
+	public StringBuilder appendMessage(StringBuilder builder) {
+		if (messageSupplier != null) {
+			return builder.append(messageSupplier.get());
+		}
+
+		if (!isFormatted() || (message == null)) {
+			return builder.append(message);
+		}
+
+		int count = getParametersCount();
+
+		// Formatage {n} simplifié de MessageFormat, sans apostrophes ni formats de nombres ou de dates
+		int length = message.length();
+		int start = 0;
+
+		for (int index = message.indexOf('{'); index >= 0; index = message.indexOf('{', index + 1)) {
+			int end = index + 1;
+			int parameter = 0;
+
+			while ((end < length) && (end - index <= 9) && Character.isDigit(message.charAt(end))) {
+				parameter = (parameter * 10) + (message.charAt(end) - '0');
+				end++;
+			}
+
+			if ((end > index + 1) && (end < length) && (message.charAt(end) == '}') && (parameter < count)) {
+				builder.append(message, start, index).append(getParameter(parameter));
+				start = end + 1;
+				index = end;
+			}
+		}
+
+		return builder.append(message, start, length);
+	}
+
+	/**
+	 * Indique si le message est formaté à partir de son modèle et de ses paramètres
+	 * @return vrai si le message a des paramètres
+	 */
+	private boolean isFormatted() {
+		return (parameters != null) || (parametersCount > 0);
+	}
+
+	/**
+	 * Extrait le nombre de paramètres du modèle du message
+	 * @return le nombre de paramètres
+	 */
+	private int getParametersCount() {
+		return (parameters != null) ? parameters.length : parametersCount;
+	}
+
+	/**
+	 * Extrait un paramètre du modèle du message
+	 * @param index Index du paramètre
+	 * @return le paramètre
+	 */
+	private Object getParameter(int index) {
+		if (parameters != null) {
+			return parameters[index];
+		}
+
+		return (index == 0) ? parameter0 : parameter1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "RunnableLoggerEntryData [name=" + name + ", level=" + level + ", message=" + message + ", messageSupplier=" + messageSupplier + ", parameters=" + Arrays.toString(getParameters()) + ", thrown=" + thrown + "]";
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RunnableLoggerEntryData other = (RunnableLoggerEntryData) obj;
+		return Objects.equals(level, other.level) && Objects.equals(message, other.message) && Objects.equals(messageSupplier, other.messageSupplier) && Arrays.equals(getParameters(), other.getParameters()) && Objects.equals(name, other.name);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(level, message, messageSupplier, Arrays.hashCode(getParameters()), name);
+	}
+
+	/**
+	 * Extrait le champ name
+	 * @return un String
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Extrait le champ level
+	 * @return un Level
+	 */
+	public Level getLevel() {
+		return level;
+	}
+
+	/**
+	 * Extrait le message à journaliser, produit par son fournisseur ou formaté à partir de son modèle à chaque appel
+	 * @return un String
+	 */
+	public String getMessage() {
+		if ((messageSupplier == null) && !isFormatted()) {
+			return message;
+		}
+
+		return appendMessage(new StringBuilder()).toString();
+	}
+
+	/**
+	 * Extrait le champ messageSupplier
+	 * @return un Supplier<String>
+	 */
+	public Supplier<String> getMessageSupplier() {
+		return messageSupplier;
+	}
+
+	/**
+	 * Extrait les paramètres du modèle du message, copiés dans un nouveau tableau lorsqu'ils sont conservés dans les champs parameter0 et parameter1
+	 * @return un Object[], null si le message n'est pas formaté
+	 */
+	public Object[] getParameters() {
+		switch (parametersCount) {
+			case 1:
+				return new Object[] { parameter0 };
+			case 2:
+				return new Object[] { parameter0, parameter1 };
+			default:
+				return parameters;
+		}
+	}
+
+	/**
+	 * Extrait le champ thrown
+	 * @return un Throwable
+	 */
+	public Throwable getThrown() {
+		return thrown;
+	}
+}
@@ -0,0 +1,13 @@
+package outils.loggers;
+
+/**
+ * Énumération des modes de planification de la journalisation des entrées en attente
+ * @author Claude Toupin - 18 oct. 2026
+ */
+public enum RunnableLoggerFlushMode {
+	/** Journalisation toutes les 500 ms, que des entrées soient en attente ou non **/
+	FIXED_DELAY,
+
+	/** Journalisation suspendue lorsque la file est vide, immédiate pour une entrée SEVERE ou une file à moitié pleine, et espacée sous une charge soutenue **/
+	ADAPTIVE;
+}
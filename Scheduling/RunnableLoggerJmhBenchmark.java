@@ -0,0 +1,162 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Handler;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import outils.loggers.RunnableLogger;
+import outils.loggers.data.RunnableLoggerEntryData;
+
+/**
+ * JMH benchmarks of the contention of the producers of the RunnableLogger, compared to the previous implementation appending under a ReentrantLock also held by the flush.
+ * <p>
+ * The java.util.logging handlers of the flushes are removed, so only the queueing and the draining of the entries are measured, the level staying enabled for the checks of the producers. Built with the scheduling benchmarks by mvn -f maven/pom-jmh-scheduling.xml package, then run with: java -jar maven/target/benchmarks.jar RunnableLoggerJmhBenchmark -t 64 (or -t 128)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class RunnableLoggerJmhBenchmark {
+	/** Name of the logged entries **/
+	private static final String NAME = RunnableLoggerJmhBenchmark.class.getSimpleName();
+
+	/** Message of the logged entries **/
+	private static final String MESSAGE = "Request completed";
+
+	/**
+	 * Lock-free RunnableLogger shared by the producer threads
+	 */
+	@State(Scope.Benchmark)
+	public static class LockFreeState {
+		/** Logger of the entries **/
+		public RunnableLogger runnableLogger;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			disableOutput(Logger.getLogger(RunnableLogger.class.getName()));
+
+			runnableLogger = new RunnableLogger();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			runnableLogger.shutdown();
+		}
+	}
+
+	/**
+	 * Previous implementation, appending to a list under a lock held by the flush while it logs every pending entry
+	 */
+	@State(Scope.Benchmark)
+	public static class LockedState implements Runnable {
+		/** Lock of the entries **/
+		private final ReentrantLock reentrantLock = new ReentrantLock();
+
+		/** Entries to log **/
+		private final List<RunnableLoggerEntryData> entriesList = new ArrayList<>();
+
+		/** Logger of the flushes **/
+		private final Logger logger = Logger.getLogger(RunnableLogger.class.getName());
+
+		/** Scheduler of the flushes **/
+		private ScheduledExecutorService scheduler;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			disableOutput(logger);
+
+			scheduler = Executors.newSingleThreadScheduledExecutor();
+			scheduler.scheduleWithFixedDelay(this, 250, 500, TimeUnit.MILLISECONDS);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			scheduler.shutdownNow();
+		}
+
+		public void log(String name, java.util.logging.Level level, String message) {
+			reentrantLock.lock();
+
+			try {
+				entriesList.add(new RunnableLoggerEntryData(name, level, message));
+			} finally {
+				reentrantLock.unlock();
+			}
+		}
+
+		@Override
+		public void run() {
+			reentrantLock.lock();
+
+			try {
+				for (RunnableLoggerEntryData entry : entriesList) {
+					logger.log(entry.getLevel(), "for " + entry.getName() + ": " + entry.getMessage());
+				}
+
+				entriesList.clear();
+			} finally {
+				reentrantLock.unlock();
+			}
+		}
+	}
+
+	@Benchmark
+	public void lockFreeLog(LockFreeState state) {
+		state.runnableLogger.log(NAME, java.util.logging.Level.WARNING, MESSAGE);
+	}
+
+	@Benchmark
+	public void lockedLog(LockedState state) {
+		state.log(NAME, java.util.logging.Level.WARNING, MESSAGE);
+	}
+
+	@Benchmark
+	public void disabledLevelLog(LockFreeState state) {
+		// FINE is under the default INFO level, so the entry and its parameter array are never created
+		state.runnableLogger.log(NAME, java.util.logging.Level.FINE, "{0} completed", MESSAGE);
+	}
+
+	private static void disableOutput(Logger logger) {
+		for (Handler handler : logger.getHandlers()) {
+			logger.removeHandler(handler);
+		}
+
+		logger.setUseParentHandlers(false);
+		logger.setLevel(java.util.logging.Level.INFO);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(RunnableLoggerJmhBenchmark.class.getSimpleName()) //
+				.threads(Integer.getInteger("threads", 64)) //
+				.addProfiler("gc") //
+				.build();
+
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,19 @@
+package outils.loggers;
+
+/**
+ * Énumération des politiques de débordement de la file des entrées à journaliser lorsqu'elle est pleine
+ * @author Claude Toupin - 18 oct. 2026
+ */
+public enum RunnableLoggerOverflowPolicy {
+	/** Le producteur attend qu'une case se libère **/
+	BLOCK,
+
+	/** La plus ancienne entrée en attente est rejetée **/
+	DROP_OLDEST,
+
+	/** La nouvelle entrée est rejetée **/
+	DROP_NEWEST,
+
+	/** La nouvelle entrée est rejetée si son niveau est sous le niveau de rejet, sinon la plus ancienne entrée en attente est rejetée **/
+	DROP_BELOW_LEVEL;
+}
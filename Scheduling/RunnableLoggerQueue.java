@@ -0,0 +1,288 @@
+package outils.loggers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import outils.loggers.data.RunnableLoggerEntryData;
+
+/**
+ * Classe d'une file circulaire bornée et sans verrou des entrées à journaliser, pour plusieurs producteurs et un seul consommateur. Les entrées sont préallouées dans les cases de la file et réutilisées à chaque tour, à la manière du Disruptor. Un producteur réserve une case par une seule opération CAS sur la queue de la file, remplit son entrée, puis la publie par le numéro de séquence de la case. Lorsque la file est pleine, la politique de débordement bloque le producteur ou rejette une entrée, les entrées rejetées étant comptées
+ * @author Claude Toupin - 18 oct. 2026
+ */
+class RunnableLoggerQueue {
+	/** Délai d'attente d'un producteur bloqué par une file pleine **/
+	private static final long BLOCK_PARK_NANOS = 100_000L;
+
+	/** Entrées préallouées de chaque case de la file **/
+	private final RunnableLoggerEntryData[] entries;
+
+	/** Numéro de séquence de chaque case, égal à la position d'ajout attendue lorsque la case est libre et à la position suivante lorsqu'elle est occupée **/
+	private final AtomicLongArray sequences;
+
+	/** Masque de l'index d'une case à partir d'une position **/
+	private final int mask;
+
+	/** Position du prochain ajout **/
+	private final AtomicLong tail;
+
+	/** Position du prochain retrait **/
+	private final AtomicLong head;
+
+	/** Politique de débordement lorsque la file est pleine **/
+	private final RunnableLoggerOverflowPolicy overflowPolicy;
+
+	/** Niveau sous lequel les entrées sont rejetées par la politique DROP_BELOW_LEVEL **/
+	private final Level dropLevel;
+
+	/** Nombre d'entrées rejetées depuis le dernier relevé **/
+	private final LongAdder droppedCount;
+
+	/** Entrée réutilisée du consommateur, dans laquelle chaque entrée retirée est copiée avant la libération de sa case **/
+	private final RunnableLoggerEntryData drainedEntry;
+
+	/**
+	 * Constructeur de base
+	 * @param capacity Capacité de la file, arrondie à la puissance de 2 supérieure
+	 * @param overflowPolicy Politique de débordement lorsque la file est pleine
+	 * @param dropLevel Niveau sous lequel les entrées sont rejetées par la politique DROP_BELOW_LEVEL
+	 */
+	RunnableLoggerQueue(int capacity, RunnableLoggerOverflowPolicy overflowPolicy, Level dropLevel) {
+		if ((capacity <= 0) || (capacity > (1 << 30))) {
+			throw new IllegalArgumentException("Capacité invalide: " + capacity);
+		}
+
+		int size = Integer.highestOneBit(capacity);
+
+		if (size < capacity) {
+			size <<= 1;
+		}
+
+		this.entries = new RunnableLoggerEntryData[size];
+		this.sequences = new AtomicLongArray(size);
+		this.mask = size - 1;
+		this.tail = new AtomicLong();
+		this.head = new AtomicLong();
+		this.overflowPolicy = overflowPolicy;
+		this.dropLevel = dropLevel;
+		this.droppedCount = new LongAdder();
+		this.drainedEntry = new RunnableLoggerEntryData();
+
+		for (int index = 0; index < size; index++) {
+			entries[index] = new RunnableLoggerEntryData();
+			sequences.set(index, index);
+		}
+	}
+
+	/**
+	 * Réservation d'une case de la file selon la politique de débordement, la case devant ensuite être remplie puis publiée
+	 * @param level Niveau du message de l'entrée à ajouter
+	 * @return la position de la case réservée, -1 si l'entrée est rejetée
+	 */
+	long claim(Level level) {
+		long position = tryClaim();
+
+		if (position >= 0) {
+			return position;
+		}
+
+		switch (overflowPolicy) {
+			case BLOCK:
+				while ((position = tryClaim()) < 0) {
+					if (Thread.currentThread().isInterrupted()) {
+						// Un producteur interrompu n'attend plus, son entrée est rejetée
+						droppedCount.increment();
+						return -1;
+					}
+
+					LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+				}
+
+				return position;
+			case DROP_NEWEST:
+				droppedCount.increment();
+				return -1;
+			case DROP_BELOW_LEVEL:
+				if (level.intValue() < dropLevel.intValue()) {
+					droppedCount.increment();
+					return -1;
+				}
+
+				// Les entrées d'un niveau suffisant remplacent les plus anciennes
+				return claimDroppingOldest();
+			case DROP_OLDEST:
+			default:
+				return claimDroppingOldest();
+		}
+	}
+
+	/**
+	 * Extrait l'entrée préallouée d'une case réservée, à remplir avant sa publication
+	 * @param position Position de la case réservée
+	 * @return l'entrée de la case
+	 */
+	RunnableLoggerEntryData getEntry(long position) {
+		return entries[(int) (position & mask)];
+	}
+
+	/**
+	 * Publication au consommateur de l'entrée remplie d'une case réservée
+	 * @param position Position de la case réservée
+	 */
+	void publish(long position) {
+		sequences.set((int) (position & mask), position + 1);
+	}
+
+	private long claimDroppingOldest() {
+		long position;
+
+		while ((position = tryClaim()) < 0) {
+			long oldest = tryTake();
+
+			if (oldest >= 0) {
+				release(oldest);
+				droppedCount.increment();
+			} else {
+				// La plus ancienne entrée est réservée mais pas encore publiée par son producteur
+				Thread.onSpinWait();
+			}
+		}
+
+		return position;
+	}
+
+	private long tryClaim() {
+		long position = tail.get();
+
+		while (true) {
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - position;
+
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					return position;
+				}
+
+				position = tail.get();
+			} else if (difference < 0) {
+				// File pleine
+				return -1;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Retire la plus ancienne entrée de la file, par le consommateur ou par un producteur appliquant la politique DROP_OLDEST. La case reste occupée jusqu'à sa libération
+	 * @return la position de la plus ancienne entrée, -1 si la file est vide
+	 */
+	private long tryTake() {
+		long position = head.get();
+
+		while (true) {
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - (position + 1);
+
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					return position;
+				}
+
+				position = head.get();
+			} else if (difference < 0) {
+				// File vide, ou entrée réservée mais pas encore publiée
+				return -1;
+			} else {
+				position = head.get();
+			}
+		}
+	}
+
+	/**
+	 * Libération d'une case retirée pour le tour suivant, son entrée étant vidée pour ne pas retenir ses références
+	 * @param position Position de la case retirée
+	 */
+	private void release(long position) {
+		int index = (int) (position & mask);
+
+		entries[index].clear();
+		sequences.set(index, position + entries.length);
+	}
+
+	/**
+	 * Retire les entrées en attente et les traite dans leur ordre d'ajout, au plus la capacité de la file par appel pour ne pas retenir le consommateur sous une charge soutenue. Chaque entrée est copiée dans l'entrée réutilisée du consommateur et sa case est libérée avant le traitement, pour qu'un traitement lent ne retienne jamais une case dont un producteur a besoin
+	 * @param consumer Traitement de chaque entrée
+	 * @return le nombre d'entrées traitées
+	 */
+	int drain(Consumer<RunnableLoggerEntryData> consumer) {
+		int count = 0;
+		long position;
+
+		while ((count < entries.length) && ((position = tryTake()) >= 0)) {
+			drainedEntry.set(entries[(int) (position & mask)]);
+			release(position);
+
+			try {
+				consumer.accept(drainedEntry);
+			} finally {
+				drainedEntry.clear();
+			}
+
+			count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Indique si la file est vide
+	 * @return vrai si aucune entrée n'est en attente
+	 */
+	boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Extrait le nombre approximatif d'entrées en attente
+	 * @return le nombre d'entrées en attente
+	 */
+	int size() {
+		return (int) Math.max(0L, tail.get() - head.get());
+	}
+
+	/**
+	 * Extrait la capacité de la file
+	 * @return la capacité de la file
+	 */
+	int capacity() {
+		return entries.length;
+	}
+
+	/**
+	 * Extrait et remet à zéro le nombre d'entrées rejetées depuis le dernier relevé
+	 * @return le nombre d'entrées rejetées
+	 */
+	long takeDroppedCount() {
+		return droppedCount.sumThenReset();
+	}
+
+	/**
+	 * Extrait le nombre d'entrées rejetées depuis le dernier relevé, sans le remettre à zéro
+	 * @return le nombre d'entrées rejetées
+	 */
+	long peekDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/**
+	 * Extrait le champ overflowPolicy
+	 * @return un RunnableLoggerOverflowPolicy
+	 */
+	RunnableLoggerOverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+}
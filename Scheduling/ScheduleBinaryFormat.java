@@ -0,0 +1,52 @@
+package schedules.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary format of the schedules, shared by the writer and the reader.
+ * <p>
+ * The file starts with a header (magic number and version, as 4 bytes integers) followed by one record per day. Each record is prefixed by its length as a 4 bytes integer and contains the scheduled date (epoch milliseconds) and day (epoch day) as 8 bytes integers, then the number of technicians and, for each technician, its name and number of locations. Each location has its name, its coordinates indicator as a byte followed, when 1, by its latitude and longitude as 8 bytes doubles, its on-site equipments count and names, sublocations count, and for each sublocation its name, off-site equipments count and names.
+ * <p>
+ * The version 1 has no coordinates indicator, its locations being read without coordinates.
+ * <p>
+ * Counts are variable length unsigned integers. Names are identifiers in a dictionnary shared by all the records, a new name being written once, as its UTF-8 length and bytes, right after its identifier.
+ */
+final class ScheduleBinaryFormat {
+	/** Magic number of the format **/
+	static final int MAGIC = 0x53434844; // SCHD
+
+	/** Version of the format **/
+	static final int VERSION = 2;
+
+	/** Version of the format without the coordinates of the locations **/
+	static final int VERSION_WITHOUT_COORDINATES = 1;
+
+	/** Size of the direct buffers of the file channels **/
+	static final int BUFFER_SIZE = 1 << 20;
+
+	private ScheduleBinaryFormat() {
+	}
+
+	static void putVarInt(ByteBuffer buffer, int value) {
+		while ((value & ~0x7F) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+
+		buffer.put((byte) value);
+	}
+
+	static int getVarInt(ByteBuffer buffer) {
+		int value = 0;
+		int shift = 0;
+		byte b;
+
+		do {
+			b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+
+		return value;
+	}
+}
@@ -0,0 +1,214 @@
+package schedules.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import schedules.data.DailyScheduleData;
+import schedules.data.LocationData;
+import schedules.data.StringDictionaryData;
+
+/**
+ * Streaming reader of schedules from a binary file, one day at a time, through a file channel and a direct buffer
+ * @see ScheduleBinaryFormat
+ */
+public class ScheduleBinaryReader implements Closeable {
+	/** Channel of the file **/
+	private final FileChannel channel;
+
+	/** Dictionnary of the read names **/
+	private final StringDictionaryData dictionary;
+
+	/** Version of the format of the file **/
+	private final int version;
+
+	/** Direct buffer of the file channel, in read mode **/
+	private ByteBuffer buffer;
+
+	/** Indicator of the end of the file channel **/
+	private boolean endOfChannel;
+
+	/**
+	 * Constructor
+	 * @param path Path of the binary file
+	 * @throws IOException in case of read error or invalid file
+	 */
+	public ScheduleBinaryReader(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.dictionary = new StringDictionaryData();
+		this.buffer = ByteBuffer.allocateDirect(ScheduleBinaryFormat.BUFFER_SIZE);
+		this.endOfChannel = false;
+
+		buffer.flip();
+
+		try {
+			if (!fill(8) || (buffer.getInt() != ScheduleBinaryFormat.MAGIC)) {
+				throw new IOException("Invalid schedules file " + path);
+			}
+
+			this.version = buffer.getInt();
+
+			if ((version != ScheduleBinaryFormat.VERSION) && (version != ScheduleBinaryFormat.VERSION_WITHOUT_COORDINATES)) {
+				throw new IOException("Unsupported schedules file version " + version);
+			}
+		} catch (IOException e) {
+			channel.close();
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Reads all the schedules of a binary file
+	 * @param path Path of the binary file
+	 * @return the list of scheduled daily maintenances
+	 * @throws IOException in case of read error or invalid file
+	 */
+	public static List<DailyScheduleData> readAll(Path path) throws IOException {
+		List<DailyScheduleData> scheduleList = new ArrayList<>();
+
+		try (ScheduleBinaryReader reader = new ScheduleBinaryReader(path)) {
+			DailyScheduleData dailySchedule;
+
+			while ((dailySchedule = reader.read()) != null) {
+				scheduleList.add(dailySchedule);
+			}
+		}
+
+		return scheduleList;
+	}
+
+	/**
+	 * Reads the record of the next day
+	 * @return the scheduled daily maintenance or null at the end of the file
+	 * @throws IOException in case of read error or invalid file
+	 */
+	public DailyScheduleData read() throws IOException {
+		if (!fill(4)) {
+			if (buffer.hasRemaining()) {
+				throw new IOException("Truncated schedules file");
+			}
+
+			return null;
+		}
+
+		int length = buffer.getInt();
+
+		if (!fill(length)) {
+			throw new IOException("Truncated schedules file");
+		}
+
+		int end = buffer.position() + length;
+
+		DailyScheduleData dailySchedule = new DailyScheduleData(new Date(buffer.getLong()), LocalDate.ofEpochDay(buffer.getLong()));
+
+		int techniciansCount = ScheduleBinaryFormat.getVarInt(buffer);
+
+		for (int technician = 0; technician < techniciansCount; technician++) {
+			String technicianName = getName();
+
+			int locationsCount = ScheduleBinaryFormat.getVarInt(buffer);
+
+			List<LocationData> locationsList = new ArrayList<>(locationsCount);
+
+			for (int i = 0; i < locationsCount; i++) {
+				LocationData location = new LocationData(getName());
+
+				if ((version != ScheduleBinaryFormat.VERSION_WITHOUT_COORDINATES) && (buffer.get() != 0)) {
+					location.setCoordinates(buffer.getDouble(), buffer.getDouble());
+				}
+
+				int onSitesCount = ScheduleBinaryFormat.getVarInt(buffer);
+
+				for (int j = 0; j < onSitesCount; j++) {
+					location.addOnSiteEquipment(getName());
+				}
+
+				int sublocationsCount = ScheduleBinaryFormat.getVarInt(buffer);
+
+				for (int j = 0; j < sublocationsCount; j++) {
+					String sublocationName = getName();
+
+					int offSitesCount = ScheduleBinaryFormat.getVarInt(buffer);
+
+					for (int k = 0; k < offSitesCount; k++) {
+						location.addOffSiteEquipmentToSublocation(sublocationName, getName());
+					}
+				}
+
+				locationsList.add(location);
+			}
+
+			dailySchedule.getTechniciansLocationsMap().put(technicianName, locationsList);
+		}
+
+		if (buffer.position() != end) {
+			throw new IOException("Invalid schedules record length " + length);
+		}
+
+		return dailySchedule;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private String getName() throws IOException {
+		int identifier = ScheduleBinaryFormat.getVarInt(buffer);
+
+		if (identifier < dictionary.size()) {
+			return dictionary.getString(identifier);
+		}
+
+		if (identifier != dictionary.size()) {
+			throw new IOException("Invalid name identifier " + identifier);
+		}
+
+		byte[] bytes = new byte[ScheduleBinaryFormat.getVarInt(buffer)];
+		buffer.get(bytes);
+
+		dictionary.intern(new String(bytes, StandardCharsets.UTF_8));
+
+		return dictionary.getString(identifier);
+	}
+
+	private boolean fill(int count) throws IOException {
+		if (buffer.remaining() >= count) {
+			return true;
+		}
+
+		if (count > buffer.capacity()) {
+			// Record larger than the direct buffer
+			ByteBuffer grownBuffer = ByteBuffer.allocateDirect(count);
+			grownBuffer.put(buffer);
+			grownBuffer.flip();
+
+			buffer = grownBuffer;
+		}
+
+		buffer.compact();
+
+		while (!endOfChannel && (buffer.position() < count)) {
+			if (channel.read(buffer) < 0) {
+				endOfChannel = true;
+			}
+		}
+
+		buffer.flip();
+
+		return buffer.remaining() >= count;
+	}
+}
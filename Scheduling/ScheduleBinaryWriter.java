@@ -0,0 +1,189 @@
+package schedules.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import schedules.data.DailyScheduleData;
+import schedules.data.LocationData;
+import schedules.data.StringDictionaryData;
+
+/**
+ * Streaming writer of schedules to a binary file, one day at a time, through a file channel and a direct buffer
+ * @see ScheduleBinaryFormat
+ */
+public class ScheduleBinaryWriter implements Closeable {
+	/** Channel of the file **/
+	private final FileChannel channel;
+
+	/** Direct buffer of the file channel **/
+	private final ByteBuffer buffer;
+
+	/** Dictionnary of the written names **/
+	private final StringDictionaryData dictionary;
+
+	/** Buffer of the record of a day, grown as needed **/
+	private ByteBuffer recordBuffer;
+
+	/**
+	 * Constructor, creating or replacing the file
+	 * @param path Path of the binary file
+	 * @throws IOException in case of write error
+	 */
+	public ScheduleBinaryWriter(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		this.buffer = ByteBuffer.allocateDirect(ScheduleBinaryFormat.BUFFER_SIZE);
+		this.dictionary = new StringDictionaryData();
+		this.recordBuffer = ByteBuffer.allocate(1 << 16);
+
+		buffer.putInt(ScheduleBinaryFormat.MAGIC);
+		buffer.putInt(ScheduleBinaryFormat.VERSION);
+	}
+
+	/**
+	 * Writes a list of schedules to a binary file
+	 * @param path Path of the binary file
+	 * @param scheduleList List of scheduled daily maintenances
+	 * @throws IOException in case of write error
+	 */
+	public static void writeAll(Path path, List<DailyScheduleData> scheduleList) throws IOException {
+		try (ScheduleBinaryWriter writer = new ScheduleBinaryWriter(path)) {
+			for (DailyScheduleData dailySchedule : scheduleList) {
+				writer.write(dailySchedule);
+			}
+		}
+	}
+
+	/**
+	 * Writes the record of a day
+	 * @param dailySchedule Scheduled daily maintenance
+	 * @throws IOException in case of write error
+	 */
+	public void write(DailyScheduleData dailySchedule) throws IOException {
+		recordBuffer.clear();
+
+		ensureRecordCapacity(16 + 5);
+		recordBuffer.putLong(dailySchedule.getScheduledDate().getTime());
+		recordBuffer.putLong(dailySchedule.getScheduledLocalDate().toEpochDay());
+		putCount(dailySchedule.getTechniciansLocationsMap().size());
+
+		for (Map.Entry<String, List<LocationData>> technicianLocationsEntry : dailySchedule.getTechniciansLocationsMap().entrySet()) {
+			putName(technicianLocationsEntry.getKey());
+			putCount(technicianLocationsEntry.getValue().size());
+
+			for (LocationData location : technicianLocationsEntry.getValue()) {
+				putName(location.getLocationName());
+				putCoordinates(location);
+				putCount(location.getOnSiteEquipmentsCount());
+
+				for (String equipmentName : location.getOnSiteEquipmentsList()) {
+					putName(equipmentName);
+				}
+
+				putCount(location.getSublocationsCount());
+
+				for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+					putName(sublocationEntry.getKey());
+					putCount(sublocationEntry.getValue().size());
+
+					for (String equipmentName : sublocationEntry.getValue()) {
+						putName(equipmentName);
+					}
+				}
+			}
+		}
+
+		recordBuffer.flip();
+
+		if (buffer.remaining() < 4 + recordBuffer.remaining()) {
+			flush();
+		}
+
+		buffer.putInt(recordBuffer.remaining());
+
+		if (buffer.remaining() >= recordBuffer.remaining()) {
+			buffer.put(recordBuffer);
+		} else {
+			// Record larger than the direct buffer
+			flush();
+
+			while (recordBuffer.hasRemaining()) {
+				channel.write(recordBuffer);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+
+		buffer.clear();
+	}
+
+	private void putCount(int count) {
+		ensureRecordCapacity(5);
+		ScheduleBinaryFormat.putVarInt(recordBuffer, count);
+	}
+
+	private void putCoordinates(LocationData location) {
+		ensureRecordCapacity(1 + 16);
+
+		if (location.hasCoordinates()) {
+			recordBuffer.put((byte) 1);
+			recordBuffer.putDouble(location.getLatitude());
+			recordBuffer.putDouble(location.getLongitude());
+		} else {
+			recordBuffer.put((byte) 0);
+		}
+	}
+
+	private void putName(String name) {
+		int identifier = dictionary.getIdentifier(name);
+
+		if (identifier >= 0) {
+			putCount(identifier);
+		} else {
+			// A new name is written once, right after its new identifier
+			byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+
+			putCount(dictionary.intern(name));
+			putCount(bytes.length);
+
+			ensureRecordCapacity(bytes.length);
+			recordBuffer.put(bytes);
+		}
+	}
+
+	private void ensureRecordCapacity(int count) {
+		if (recordBuffer.remaining() < count) {
+			ByteBuffer grownBuffer = ByteBuffer.allocate(Math.max(recordBuffer.capacity() * 2, recordBuffer.position() + count));
+
+			recordBuffer.flip();
+			grownBuffer.put(recordBuffer);
+
+			recordBuffer = grownBuffer;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package schedules.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import schedules.data.DailyScheduleData;
+import schedules.data.LocationData;
+
+/**
+ * Streaming writer of schedules to a UTF-8 CSV file, one day at a time, through a file channel and a direct buffer. Each equipment is a line with the columns date, technician, location, sublocation (empty for an on-site equipment) and equipment.
+ */
+public class ScheduleCsvWriter implements Closeable {
+	/** Header line of the CSV file **/
+	private static final String HEADER = "date,technician,location,sublocation,equipment\n";
+
+	/** Channel of the file **/
+	private final FileChannel channel;
+
+	/** Direct buffer of the file channel **/
+	private final ByteBuffer buffer;
+
+	/** UTF-8 encoder of the lines **/
+	private final CharsetEncoder encoder;
+
+	/** Lines of the day being written **/
+	private final StringBuilder lines;
+
+	/**
+	 * Constructor, creating or replacing the file
+	 * @param path Path of the CSV file
+	 * @throws IOException in case of write error
+	 */
+	public ScheduleCsvWriter(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		this.buffer = ByteBuffer.allocateDirect(1 << 20);
+		this.encoder = StandardCharsets.UTF_8.newEncoder();
+		this.lines = new StringBuilder(1 << 16);
+
+		lines.append(HEADER);
+	}
+
+	/**
+	 * Writes a list of schedules to a CSV file
+	 * @param path Path of the CSV file
+	 * @param scheduleList List of scheduled daily maintenances
+	 * @throws IOException in case of write error
+	 */
+	public static void writeAll(Path path, List<DailyScheduleData> scheduleList) throws IOException {
+		try (ScheduleCsvWriter writer = new ScheduleCsvWriter(path)) {
+			for (DailyScheduleData dailySchedule : scheduleList) {
+				writer.write(dailySchedule);
+			}
+		}
+	}
+
+	/**
+	 * Writes the lines of a day
+	 * @param dailySchedule Scheduled daily maintenance
+	 * @throws IOException in case of write error
+	 */
+	public void write(DailyScheduleData dailySchedule) throws IOException {
+		String date = dailySchedule.getScheduledLocalDate().toString();
+
+		for (Map.Entry<String, List<LocationData>> technicianLocationsEntry : dailySchedule.getTechniciansLocationsMap().entrySet()) {
+			for (LocationData location : technicianLocationsEntry.getValue()) {
+				for (String equipmentName : location.getOnSiteEquipmentsList()) {
+					appendLine(date, technicianLocationsEntry.getKey(), location.getLocationName(), "", equipmentName);
+				}
+
+				for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+					for (String equipmentName : sublocationEntry.getValue()) {
+						appendLine(date, technicianLocationsEntry.getKey(), location.getLocationName(), sublocationEntry.getKey(), equipmentName);
+					}
+				}
+			}
+		}
+
+		encode(false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			encode(true);
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+
+	private void appendLine(String date, String technician, String locationName, String sublocationName, String equipmentName) {
+		lines.append(date).append(',');
+		appendField(technician);
+		lines.append(',');
+		appendField(locationName);
+		lines.append(',');
+		appendField(sublocationName);
+		lines.append(',');
+		appendField(equipmentName);
+		lines.append('\n');
+	}
+
+	private void appendField(String field) {
+		boolean quoted = false;
+
+		for (int i = 0; i < field.length(); i++) {
+			char c = field.charAt(i);
+
+			if ((c == ',') || (c == '"') || (c == '\n') || (c == '\r')) {
+				quoted = true;
+				break;
+			}
+		}
+
+		if (!quoted) {
+			lines.append(field);
+			return;
+		}
+
+		// RFC 4180 quoting, the quotes being doubled
+		lines.append('"');
+
+		for (int i = 0; i < field.length(); i++) {
+			char c = field.charAt(i);
+
+			if (c == '"') {
+				lines.append('"');
+			}
+
+			lines.append(c);
+		}
+
+		lines.append('"');
+	}
+
+	private void encode(boolean endOfInput) throws IOException {
+		CharBuffer chars = CharBuffer.wrap(lines);
+
+		while (true) {
+			CoderResult result = encoder.encode(chars, buffer, endOfInput);
+
+			if (result.isOverflow()) {
+				flush();
+			} else if (result.isUnderflow()) {
+				break;
+			} else {
+				result.throwException();
+			}
+		}
+
+		if (endOfInput) {
+			while (encoder.flush(buffer).isOverflow()) {
+				flush();
+			}
+		}
+
+		lines.setLength(0);
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+
+		buffer.clear();
+	}
+}
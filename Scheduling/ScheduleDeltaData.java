@@ -0,0 +1,28 @@
+package schedules.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta of the equipments of a portfolio of locations since its schedule has been extracted
+ */
+public class ScheduleDeltaData {
+	/** List of locations and its equipments added to the portfolio **/
+	private final List<LocationData> addedLocationsList;
+
+	/** List of locations and its equipments removed from the portfolio **/
+	private final List<LocationData> removedLocationsList;
+
+	public ScheduleDeltaData() {
+		this.addedLocationsList = new ArrayList<>();
+		this.removedLocationsList = new ArrayList<>();
+	}
+
+	public List<LocationData> getAddedLocationsList() {
+		return addedLocationsList;
+	}
+
+	public List<LocationData> getRemovedLocationsList() {
+		return removedLocationsList;
+	}
+}
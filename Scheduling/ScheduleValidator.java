@@ -0,0 +1,293 @@
+package schedules;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import schedules.data.CompactLocationsData;
+import schedules.data.DailyScheduleData;
+import schedules.data.LocationData;
+import schedules.data.ScheduleViolationData;
+import schedules.data.ScheduleViolationType;
+
+/**
+ * Validation of the invariants of a schedule against the locations and its equipments to be scheduled: every equipment is scheduled exactly once, the equipments of a location or of a sublocation requiring a split follow the 50% rule of the scheduling on the first day holding them, and the number of equipments of each day does not exceed its maximum.
+ * <p>
+ * The equipments to be scheduled are indexed by hash maps when the validator is created, so the locations must be given before they are scheduled, as the scheduling removes the scheduled equipments from them. Each validation is then a single pass over the schedule plus a pass over the indexed equipments, in linear time. A validator is immutable, so it can validate several schedules at once.
+ */
+public class ScheduleValidator {
+	/** Group indexes of the on-site equipments and of the sublocations by location name **/
+	private final Map<String, LocationGroups> locationsGroupsMap;
+
+	/** Location name of each group **/
+	private final List<String> groupsLocationsNames;
+
+	/** Sublocation name of each group, null for the on-site equipments **/
+	private final List<String> groupsSublocationsNames;
+
+	/** Equipment indexes by equipment name of each group **/
+	private final List<Map<String, Integer>> groupsEquipmentsMaps;
+
+	/** Number of equipments of each group **/
+	private int[] groupsSizes;
+
+	/** Split indicator required of each group **/
+	private final BitSet groupsSplitRequired;
+
+	/** Equipment name of each equipment index **/
+	private final List<String> equipmentsNames;
+
+	/** Group of each equipment index **/
+	private int[] equipmentsGroups;
+
+	/** Number of copies to schedule of each equipment index **/
+	private int[] equipmentsCounts;
+
+	/**
+	 * Constructor
+	 * @param locationsList List of locations and its equipments to be scheduled, before their scheduling
+	 */
+	public ScheduleValidator(List<LocationData> locationsList) {
+		this();
+
+		for (LocationData location : locationsList) {
+			int group = addGroup(location.getLocationName(), null, location.isSplitRequiredOnSiteEquipments());
+
+			for (String equipmentName : location.getOnSiteEquipmentsList()) {
+				addEquipment(group, equipmentName);
+			}
+
+			for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+				group = addGroup(location.getLocationName(), sublocationEntry.getKey(), !Boolean.FALSE.equals(location.getSplitRequiredOffSiteEquipmentsSublocationsMap().get(sublocationEntry.getKey())));
+
+				for (String equipmentName : sublocationEntry.getValue()) {
+					addEquipment(group, equipmentName);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Constructor
+	 * @param compactLocations Compact storage of the locations and its equipments to be scheduled
+	 */
+	public ScheduleValidator(CompactLocationsData compactLocations) {
+		this();
+
+		for (int index = 0; index < compactLocations.getLocationsCount(); index++) {
+			String locationName = compactLocations.getLocationName(index);
+
+			int group = addGroup(locationName, null, compactLocations.isSplitRequiredOnSiteEquipments(index));
+
+			for (int position = 0; position < compactLocations.getOnSiteEquipmentsCount(index); position++) {
+				addEquipment(group, compactLocations.getDictionary().getString(compactLocations.getOnSiteEquipment(index, position)));
+			}
+
+			for (int sublocation = compactLocations.getSublocationsStart(index); sublocation < compactLocations.getSublocationsEnd(index); sublocation++) {
+				group = addGroup(locationName, compactLocations.getSublocationName(sublocation), compactLocations.isSplitRequiredOffSiteEquipments(sublocation));
+
+				for (int position = 0; position < compactLocations.getOffSiteEquipmentsCount(sublocation); position++) {
+					addEquipment(group, compactLocations.getDictionary().getString(compactLocations.getOffSiteEquipment(sublocation, position)));
+				}
+			}
+		}
+	}
+
+	private ScheduleValidator() {
+		this.locationsGroupsMap = new HashMap<>();
+		this.groupsLocationsNames = new ArrayList<>();
+		this.groupsSublocationsNames = new ArrayList<>();
+		this.groupsEquipmentsMaps = new ArrayList<>();
+		this.groupsSizes = new int[16];
+		this.groupsSplitRequired = new BitSet();
+		this.equipmentsNames = new ArrayList<>();
+		this.equipmentsGroups = new int[64];
+		this.equipmentsCounts = new int[64];
+	}
+
+	/**
+	 * Validates a schedule without maximum number of equipments per day, as a schedule based on a fix number of days
+	 * @param scheduleList List of scheduled daily maintenances
+	 * @return the violations of the invariants of the schedule, empty when the schedule is valid
+	 */
+	public List<ScheduleViolationData> validate(List<DailyScheduleData> scheduleList) {
+		return validate(scheduleList, 0, null);
+	}
+
+	/**
+	 * Validates a schedule
+	 * @param scheduleList List of scheduled daily maintenances
+	 * @param maxNumberEquipmentsPerDay Maximum number of equipments per day, no maximum being checked when 0 or less
+	 * @param maxNumberEquipmentsForGivenDaysMap Dictionnary of maximum number of equipments for each given day, may be null
+	 * @return the violations of the invariants of the schedule, empty when the schedule is valid
+	 */
+	public List<ScheduleViolationData> validate(List<DailyScheduleData> scheduleList, int maxNumberEquipmentsPerDay, Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap) {
+		List<ScheduleViolationData> violationsList = new ArrayList<>();
+
+		int groupsCount = groupsLocationsNames.size();
+		int equipmentsCount = equipmentsNames.size();
+
+		// Number of scheduled copies of each equipment
+		int[] scheduledCounts = new int[equipmentsCount];
+
+		// First day of the scheduled equipments of each group, -1 when none is scheduled, and their number on that day
+		int[] groupsFirstDays = new int[groupsCount];
+		int[] groupsFirstDaysCounts = new int[groupsCount];
+		Arrays.fill(groupsFirstDays, -1);
+
+		for (int day = 0; day < scheduleList.size(); day++) {
+			DailyScheduleData dailySchedule = scheduleList.get(day);
+			LocalDate scheduledDate = dailySchedule.getScheduledLocalDate();
+
+			int load = 0;
+
+			for (List<LocationData> locations : dailySchedule.getTechniciansLocationsMap().values()) {
+				for (LocationData location : locations) {
+					LocationGroups locationGroups = locationsGroupsMap.get(location.getLocationName());
+
+					int group = (locationGroups != null) ? locationGroups.onSiteGroup : -1;
+
+					for (String equipmentName : location.getOnSiteEquipmentsList()) {
+						checkEquipment(group, location.getLocationName(), null, equipmentName, day, scheduledDate, scheduledCounts, groupsFirstDays, groupsFirstDaysCounts, violationsList);
+					}
+
+					for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+						group = (locationGroups != null) ? locationGroups.sublocationsGroupsMap.getOrDefault(sublocationEntry.getKey(), -1) : -1;
+
+						for (String equipmentName : sublocationEntry.getValue()) {
+							checkEquipment(group, location.getLocationName(), sublocationEntry.getKey(), equipmentName, day, scheduledDate, scheduledCounts, groupsFirstDays, groupsFirstDaysCounts, violationsList);
+						}
+					}
+
+					load += location.getTotalEquipmentsCount();
+				}
+			}
+
+			// Get max equipment limit for current day
+			Integer maxEquipment = (maxNumberEquipmentsForGivenDaysMap != null) ? maxNumberEquipmentsForGivenDaysMap.get(scheduledDate) : null;
+
+			if (maxEquipment == null) {
+				maxEquipment = (maxNumberEquipmentsPerDay > 0) ? maxNumberEquipmentsPerDay : Integer.MAX_VALUE;
+			}
+
+			if (load > maxEquipment) {
+				violationsList.add(new ScheduleViolationData(ScheduleViolationType.DAY_MAXIMUM, scheduledDate, null, null, null, load, maxEquipment));
+			}
+		}
+
+		for (int equipment = 0; equipment < equipmentsCount; equipment++) {
+			if (scheduledCounts[equipment] < equipmentsCounts[equipment]) {
+				int group = equipmentsGroups[equipment];
+
+				violationsList.add(new ScheduleViolationData(ScheduleViolationType.MISSING_EQUIPMENT, null, groupsLocationsNames.get(group), groupsSublocationsNames.get(group), equipmentsNames.get(equipment), scheduledCounts[equipment], equipmentsCounts[equipment]));
+			}
+		}
+
+		// The split rule can only hold when the schedule has several days
+		if (scheduleList.size() > 1) {
+			for (int group = groupsSplitRequired.nextSetBit(0); group >= 0; group = groupsSplitRequired.nextSetBit(group + 1)) {
+				// Same 50% limit as the scheduling, for the equipments of the group on its first day
+				int limit = SplitRule.getFirstDayLimit(groupsSizes[group]);
+
+				if (groupsFirstDaysCounts[group] > limit) {
+					violationsList.add(new ScheduleViolationData(ScheduleViolationType.SPLIT_RULE, scheduleList.get(groupsFirstDays[group]).getScheduledLocalDate(), groupsLocationsNames.get(group), groupsSublocationsNames.get(group), null, groupsFirstDaysCounts[group], limit));
+				}
+			}
+		}
+
+		return violationsList;
+	}
+
+	private void checkEquipment(int group, String locationName, String sublocationName, String equipmentName, int day, LocalDate scheduledDate, int[] scheduledCounts, int[] groupsFirstDays, int[] groupsFirstDaysCounts, List<ScheduleViolationData> violationsList) {
+		Integer equipment = (group >= 0) ? groupsEquipmentsMaps.get(group).get(equipmentName) : null;
+
+		if (equipment == null) {
+			violationsList.add(new ScheduleViolationData(ScheduleViolationType.UNKNOWN_EQUIPMENT, scheduledDate, locationName, sublocationName, equipmentName, 1, 0));
+			return;
+		}
+
+		int scheduledCount = ++scheduledCounts[equipment];
+
+		if (scheduledCount > equipmentsCounts[equipment]) {
+			violationsList.add(new ScheduleViolationData(ScheduleViolationType.DUPLICATE_EQUIPMENT, scheduledDate, locationName, sublocationName, equipmentName, scheduledCount, equipmentsCounts[equipment]));
+		}
+
+		// The days are checked in date order, so the first day holding the group is the first one seen
+		if (groupsFirstDays[group] < 0) {
+			groupsFirstDays[group] = day;
+		}
+
+		if (groupsFirstDays[group] == day) {
+			groupsFirstDaysCounts[group]++;
+		}
+	}
+
+	private int addGroup(String locationName, String sublocationName, boolean splitRequired) {
+		LocationGroups locationGroups = locationsGroupsMap.computeIfAbsent(locationName, key -> new LocationGroups());
+
+		Integer existingGroup = (sublocationName == null) ? ((locationGroups.onSiteGroup >= 0) ? locationGroups.onSiteGroup : null) : locationGroups.sublocationsGroupsMap.get(sublocationName);
+
+		if (existingGroup != null) {
+			// Same location given more than once, its equipments being added to the same group
+			return existingGroup;
+		}
+
+		int group = groupsLocationsNames.size();
+
+		if (sublocationName == null) {
+			locationGroups.onSiteGroup = group;
+		} else {
+			locationGroups.sublocationsGroupsMap.put(sublocationName, group);
+		}
+
+		if (group == groupsSizes.length) {
+			groupsSizes = Arrays.copyOf(groupsSizes, group * 2);
+		}
+
+		groupsLocationsNames.add(locationName);
+		groupsSublocationsNames.add(sublocationName);
+		groupsEquipmentsMaps.add(new HashMap<>());
+		groupsSplitRequired.set(group, splitRequired);
+
+		return group;
+	}
+
+	private void addEquipment(int group, String equipmentName) {
+		groupsSizes[group]++;
+
+		Integer equipment = groupsEquipmentsMaps.get(group).get(equipmentName);
+
+		if (equipment != null) {
+			// Same equipment name more than once in the group, expected as many times
+			equipmentsCounts[equipment]++;
+			return;
+		}
+
+		equipment = equipmentsNames.size();
+
+		if (equipment == equipmentsCounts.length) {
+			equipmentsGroups = Arrays.copyOf(equipmentsGroups, equipment * 2);
+			equipmentsCounts = Arrays.copyOf(equipmentsCounts, equipment * 2);
+		}
+
+		groupsEquipmentsMaps.get(group).put(equipmentName, equipment);
+		equipmentsNames.add(equipmentName);
+		equipmentsGroups[equipment] = group;
+		equipmentsCounts[equipment] = 1;
+	}
+
+	/**
+	 * Group indexes of the on-site equipments and of the sublocations of a location
+	 */
+	private static class LocationGroups {
+		/** Group of the on-site equipments, -1 when the location has none **/
+		private int onSiteGroup = -1;
+
+		/** Groups of the sublocations by sublocation name **/
+		private final Map<String, Integer> sublocationsGroupsMap = new HashMap<>();
+	}
+}
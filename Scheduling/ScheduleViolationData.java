@@ -0,0 +1,96 @@
+package schedules.data;
+
+import java.time.LocalDate;
+
+/**
+ * Violation of an invariant of a schedule
+ */
+public class ScheduleViolationData {
+	/** Violation type **/
+	private final ScheduleViolationType violationType;
+
+	/** Scheduled date of the violation, null for a missing equipment **/
+	private final LocalDate scheduledDate;
+
+	/** Location name, null for a day maximum **/
+	private final String locationName;
+
+	/** Sublocation name, null for on-site equipments and for a day maximum **/
+	private final String sublocationName;
+
+	/** Equipment name, null for a split rule or a day maximum **/
+	private final String equipmentName;
+
+	/** Number of equipments of the violation: the number of scheduled copies of the equipment, the number of equipments of the location or sublocation on the first day holding them for a split rule, or the load of the day **/
+	private final int count;
+
+	/** Expected number of equipments: the number of copies of the equipment to schedule, the 50% limit rounded up of the location or sublocation on that day for a split rule, or the maximum of the day **/
+	private final int expectedCount;
+
+	public ScheduleViolationData(ScheduleViolationType violationType, LocalDate scheduledDate, String locationName, String sublocationName, String equipmentName, int count, int expectedCount) {
+		this.violationType = violationType;
+		this.scheduledDate = scheduledDate;
+		this.locationName = locationName;
+		this.sublocationName = sublocationName;
+		this.equipmentName = equipmentName;
+		this.count = count;
+		this.expectedCount = expectedCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder(violationType.name());
+
+		if (scheduledDate != null) {
+			builder.append(" on ").append(scheduledDate);
+		}
+
+		if (locationName != null) {
+			builder.append(", location ").append(locationName);
+		}
+
+		if (sublocationName != null) {
+			builder.append(", sublocation ").append(sublocationName);
+		}
+
+		if (equipmentName != null) {
+			builder.append(", equipment ").append(equipmentName);
+		}
+
+		builder.append(": ").append(count).append(" for ").append(expectedCount);
+
+		return builder.toString();
+	}
+
+	public ScheduleViolationType getViolationType() {
+		return violationType;
+	}
+
+	public LocalDate getScheduledDate() {
+		return scheduledDate;
+	}
+
+	public String getLocationName() {
+		return locationName;
+	}
+
+	public String getSublocationName() {
+		return sublocationName;
+	}
+
+	public String getEquipmentName() {
+		return equipmentName;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public int getExpectedCount() {
+		return expectedCount;
+	}
+}
@@ -0,0 +1,21 @@
+package schedules.data;
+
+/**
+ * Types of the violations of the invariants of a schedule
+ */
+public enum ScheduleViolationType {
+	/** An equipment to schedule is missing from the schedule **/
+	MISSING_EQUIPMENT,
+
+	/** An equipment is scheduled more than once **/
+	DUPLICATE_EQUIPMENT,
+
+	/** A scheduled equipment is not one of the equipments to schedule **/
+	UNKNOWN_EQUIPMENT,
+
+	/** More than 50%, rounded up, of the equipments of a location or of a sublocation requiring a split are scheduled on the first day holding them **/
+	SPLIT_RULE,
+
+	/** The number of equipments of a day exceeds its maximum **/
+	DAY_MAXIMUM;
+}
@@ -1,18 +1,41 @@
 package schedules;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import schedules.data.CompactLocationsData;
 import schedules.data.DailyScheduleData;
+import schedules.data.DayBalancingMode;
 import schedules.data.LocationData;
+import schedules.data.ScheduleDeltaData;
+import schedules.data.SchedulingListener;
+import schedules.data.SchedulingOptionsData;
+import schedules.data.SchedulingPhase;
+import schedules.data.TechnicianDistributionMode;
+import schedules.data.TechniciansAvailabilityData;
 
 /**
  * Helper class of public static methods for scheduling the daily maintenance of locations and its equipments by technicians
  */
 public class SchedulingHelper {
+	/** Load added to a day to exclude it from the selection of the least loaded day **/
+	private static final int EXCLUDED_LOAD = Integer.MAX_VALUE / 2;
 
 	/**
 	 * Extract the list scheduled daily maintenances based on a fix number of days
@@ -24,29 +47,83 @@ public class SchedulingHelper {
 	 * @return the list scheduled daily maintenances of locations and its equipments by technicians
 	 */
 	public static List<DailyScheduleData> extractScheduleFixNumberOfDays(int numberOfDays, Date startDate, List<LocationData> locationsList, List<String> techniciansList, int[] openBusinessDays) {
-		List<DailyScheduleData> scheduleList = new ArrayList<>();
+		return extractScheduleFixNumberOfDays(numberOfDays, startDate, locationsList, techniciansList, openBusinessDays, new SchedulingOptionsData());
+	}
 
-		// If openBusinessDays is empty, use Monday to Friday as default
-		if (openBusinessDays == null || openBusinessDays.length == 0) {
-			openBusinessDays = getDefaultOpenBusinessDays();
-		}
+	/**
+	 * Extract the list scheduled daily maintenances based on a fix number of days
+	 * @param numberOfDays Number of days
+	 * @param startDate Start date for scheduling
+	 * @param locationsList List of locations and its equipments to be scheduled
+	 * @param techniciansList List of technicians to assign
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK
+	 * @param options Scheduling options
+	 * @return the list scheduled daily maintenances of locations and its equipments by technicians
+	 */
+	public static List<DailyScheduleData> extractScheduleFixNumberOfDays(int numberOfDays, Date startDate, List<LocationData> locationsList, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		// Create the allocation engine of the locations
+		EquipmentAllocator allocator = new EquipmentAllocator(locationsList);
 
-		// Create calendar for date manipulation
-		java.util.Calendar calendar = java.util.Calendar.getInstance();
-		calendar.setTime(startDate);
+		List<DailyScheduleData> scheduleList = extractScheduleFixNumberOfDays(numberOfDays, toLocalDateTime(startDate), allocator, techniciansList, openBusinessDays, options);
 
-		// Adjust start date if not on an open business day
-		while (!isBusinessDay(calendar.get(java.util.Calendar.DAY_OF_WEEK), openBusinessDays)) {
-			calendar.add(java.util.Calendar.DAY_OF_MONTH, 1);
-		}
+		// Remove the scheduled equipment from the locations
+		allocator.commit();
+
+		return scheduleList;
+	}
+
+	/**
+	 * Extract the list scheduled daily maintenances based on a fix number of days
+	 * @param numberOfDays Number of days
+	 * @param startDate Start date for scheduling
+	 * @param compactLocations Compact storage of the locations and its equipments to be scheduled, which is left unchanged, a snapshot being safely scheduled by several threads at once
+	 * @param techniciansList List of technicians to assign
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK
+	 * @param options Scheduling options
+	 * @return the list scheduled daily maintenances of locations and its equipments by technicians
+	 */
+	public static List<DailyScheduleData> extractScheduleFixNumberOfDays(int numberOfDays, Date startDate, CompactLocationsData compactLocations, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		return extractScheduleFixNumberOfDays(numberOfDays, toLocalDateTime(startDate), new EquipmentAllocator(compactLocations), techniciansList, openBusinessDays, options);
+	}
+
+	/**
+	 * Extract the list scheduled daily maintenances based on a fix number of days
+	 * @param numberOfDays Number of days
+	 * @param startDate Start date for scheduling, the scheduled dates being at the start of the day
+	 * @param locationsList List of locations and its equipments to be scheduled
+	 * @param techniciansList List of technicians to assign
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK
+	 * @param options Scheduling options
+	 * @return the list scheduled daily maintenances of locations and its equipments by technicians
+	 */
+	public static List<DailyScheduleData> extractScheduleFixNumberOfDays(int numberOfDays, LocalDate startDate, List<LocationData> locationsList, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		// Create the allocation engine of the locations
+		EquipmentAllocator allocator = new EquipmentAllocator(locationsList);
+
+		List<DailyScheduleData> scheduleList = extractScheduleFixNumberOfDays(numberOfDays, startDate.atStartOfDay(), allocator, techniciansList, openBusinessDays, options);
+
+		// Remove the scheduled equipment from the locations
+		allocator.commit();
+
+		return scheduleList;
+	}
+
+	private static List<DailyScheduleData> extractScheduleFixNumberOfDays(int numberOfDays, LocalDateTime startDateTime, EquipmentAllocator allocator, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		List<DailyScheduleData> scheduleList = new ArrayList<>();
+
+		SchedulingListener listener = options.getListener();
+		long phaseStart = startPhase(listener);
+
+		// Create calendar of the open business days, Monday to Friday being used if openBusinessDays is empty
+		BusinessDayCalendar calendar = createBusinessDayCalendar(startDateTime.toLocalDate(), openBusinessDays, techniciansList, options);
 
 		// Calculate total equipment counts
 		int totalOnSiteEquipment = 0;
 		int totalOffSiteEquipment = 0;
 
-		for (LocationData location : locationsList) {
-			totalOnSiteEquipment += location.getOnSiteEquipmentsCount();
-			totalOffSiteEquipment += location.getTotalOffSiteEquipmentsSublocationsCount();
+		for (int index = 0; index < allocator.getLocationsCount(); index++) {
+			totalOnSiteEquipment += allocator.getRemainingOnSiteCount(index);
+			totalOffSiteEquipment += allocator.getRemainingOffSiteCount(index);
 		}
 
 		// Calculate target equipment per day
@@ -56,53 +133,59 @@ public class SchedulingHelper {
 		// Create schedule for each day
 		for (int day = 0; day < numberOfDays; day++) {
 			// Create schedule for current date
-			DailyScheduleData dailySchedule = new DailyScheduleData(calendar.getTime());
+			DailyScheduleData dailySchedule = createDailySchedule(calendar.getOpenDate(day), startDateTime.toLocalTime());
 
 			// Initialize technicians maps
-			for (String technician : techniciansList) {
-				dailySchedule.getTechniciansLocationsMap().put(technician, new ArrayList<>());
-			}
+			initializeTechniciansLocationsMap(dailySchedule, techniciansList, options);
 
 			scheduleList.add(dailySchedule);
-
-			// Move to next business day
-			do {
-				calendar.add(java.util.Calendar.DAY_OF_MONTH, 1);
-			} while (!isBusinessDay(calendar.get(java.util.Calendar.DAY_OF_WEEK), openBusinessDays));
 		}
 
+		phaseStart = endPhase(listener, SchedulingPhase.CALENDAR, phaseStart);
+
 		// Sort locations by equipment count
-		List<LocationData> sortedLocations = new ArrayList<>(locationsList);
-		sortedLocations.sort((a, b) -> {
-			int aTotal = a.getOnSiteEquipmentsCount() + a.getTotalOffSiteEquipmentsSublocationsCount();
-			int bTotal = b.getOnSiteEquipmentsCount() + b.getTotalOffSiteEquipmentsSublocationsCount();
-			return Integer.compare(bTotal, aTotal);
-		});
+		int[] sortedLocations = allocator.getLocationsIndexesByDescendingCount(allocator::getRemainingTotalCount);
+
+		phaseStart = endPhase(listener, SchedulingPhase.SORTING, phaseStart);
+
+		if (options.getDayBalancingMode() == DayBalancingMode.LPT_LOCAL_SEARCH) {
+			// Balance all the equipments over the days, none being left unscheduled
+			new LptDayBalancer(allocator, numberOfDays, options.getBalancingTimeBudgetMillis()).balance(scheduleList, sortedLocations);
+
+			endAllocation(listener, allocator, scheduleList, phaseStart);
+
+			// Distribute locations evenly among technicians for each day
+			distributeEquipmentsToTechnicians(scheduleList, techniciansList, options);
+
+			return scheduleList;
+		}
 
 		// Calculate base and extra equipment per day for global distribution
 		int baseEquipmentPerDay = (int) Math.floor((double) (totalOnSiteEquipment + totalOffSiteEquipment) / numberOfDays);
 		int extraEquipment = (totalOnSiteEquipment + totalOffSiteEquipment) - (baseEquipmentPerDay * numberOfDays);
 
 		// Create array to track equipment count per day
-		int[] equipmentPerDay = new int[numberOfDays];
+		int[] initialEquipmentPerDay = new int[numberOfDays];
 
 		for (int i = 0; i < numberOfDays; i++) {
-			equipmentPerDay[i] = baseEquipmentPerDay + (extraEquipment > i ? 1 : 0);
+			initialEquipmentPerDay[i] = baseEquipmentPerDay + (extraEquipment > i ? 1 : 0);
 		}
 
+		DayLoadSelector equipmentPerDay = options.isDayLoadHeap() ? new DayLoadHeap(initialEquipmentPerDay) : new DayLoadArray(initialEquipmentPerDay);
+
 		// Schedule equipment for each location
-		for (LocationData location : sortedLocations) {
+		for (int index : sortedLocations) {
 			// Handle on-site equipment
-			scheduleOnSiteEquipment(location, scheduleList, targetOnSitePerDay, equipmentPerDay);
+			scheduleOnSiteEquipment(allocator, index, scheduleList, targetOnSitePerDay, equipmentPerDay, listener);
 
 			// Handle off-site equipment by sublocation
-			scheduleOffSiteEquipment(location, scheduleList, targetOffSitePerDay, equipmentPerDay);
+			scheduleOffSiteEquipment(allocator, index, scheduleList, targetOffSitePerDay, equipmentPerDay, listener);
 		}
 
+		endAllocation(listener, allocator, scheduleList, phaseStart);
+
 		// Distribute locations evenly among technicians for each day
-		for (DailyScheduleData dailySchedule : scheduleList) {
-			distributeEquipmentsToTechnicians(dailySchedule, techniciansList);
-		}
+		distributeEquipmentsToTechnicians(scheduleList, techniciansList, options);
 
 		return scheduleList;
 	}
@@ -118,348 +201,393 @@ public class SchedulingHelper {
 	 * @return the list scheduled daily maintenances of locations and its equipments by technicians
 	 */
 	public static List<DailyScheduleData> extractScheduleMaxNumberOfEquipmentsPerDay(int maxNumberEquipmentsPerDay, Map<Date, Integer> maxNumberEquipmentsForGivenDaysMap, Date startDate, List<LocationData> locationsList, List<String> techniciansList, int[] openBusinessDays) {
-		List<DailyScheduleData> scheduleList = new ArrayList<>();
-
-		// If openBusinessDays is empty, use Monday to Friday as default
-		if (openBusinessDays == null || openBusinessDays.length == 0) {
-			openBusinessDays = getDefaultOpenBusinessDays();
-		}
-
-		if (maxNumberEquipmentsForGivenDaysMap == null) {
-			maxNumberEquipmentsForGivenDaysMap = new HashMap<>();
-		}
+		return extractScheduleMaxNumberOfEquipmentsPerDay(maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap, startDate, locationsList, techniciansList, openBusinessDays, new SchedulingOptionsData());
+	}
 
-		// Create calendar for date manipulation
-		java.util.Calendar calendar = java.util.Calendar.getInstance();
-		calendar.setTime(startDate);
+	/**
+	 * Extract the list scheduled daily maintenances based on a maximum number of equipments per day
+	 * @param maxNumberEquipmentsPerDay Maximum number of equipments per day
+	 * @param maxNumberEquipmentsForGivenDaysMap Dictionnary of maximum number of equipments for each given day
+	 * @param startDate Start date for scheduling
+	 * @param locationsList List of locations and its equipments to be scheduled
+	 * @param techniciansList List of technicians to assign
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK
+	 * @param options Scheduling options
+	 * @return the list scheduled daily maintenances of locations and its equipments by technicians
+	 */
+	public static List<DailyScheduleData> extractScheduleMaxNumberOfEquipmentsPerDay(int maxNumberEquipmentsPerDay, Map<Date, Integer> maxNumberEquipmentsForGivenDaysMap, Date startDate, List<LocationData> locationsList, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		// Create the allocation engine of the locations
+		EquipmentAllocator allocator = new EquipmentAllocator(locationsList);
 
-		// Adjust start date if not on an open business day
-		while (!isBusinessDay(calendar.get(java.util.Calendar.DAY_OF_WEEK), openBusinessDays)) {
-			calendar.add(java.util.Calendar.DAY_OF_MONTH, 1);
-		}
+		List<DailyScheduleData> scheduleList = extractScheduleMaxNumberOfEquipmentsPerDay(maxNumberEquipmentsPerDay, toLocalDateMap(maxNumberEquipmentsForGivenDaysMap), toLocalDateTime(startDate), allocator, techniciansList, openBusinessDays, options);
 
-		// Calculate total number of equipment to schedule
-		int totalOnSiteEquipment = 0;
-		int totalOffSiteEquipment = 0;
+		// Remove the scheduled equipment from the locations
+		allocator.commit();
 
-		for (LocationData location : locationsList) {
-			totalOnSiteEquipment += location.getOnSiteEquipmentsCount();
-			totalOffSiteEquipment += location.getTotalOffSiteEquipmentsSublocationsCount();
-		}
+		return scheduleList;
+	}
 
-		// Create schedules until all equipment is allocated
-		int remainingOnSite = totalOnSiteEquipment;
-		int remainingOffSite = totalOffSiteEquipment;
+	/**
+	 * Extract the list scheduled daily maintenances based on a maximum number of equipments per day
+	 * @param maxNumberEquipmentsPerDay Maximum number of equipments per day
+	 * @param maxNumberEquipmentsForGivenDaysMap Dictionnary of maximum number of equipments for each given day
+	 * @param startDate Start date for scheduling
+	 * @param compactLocations Compact storage of the locations and its equipments to be scheduled, which is left unchanged, a snapshot being safely scheduled by several threads at once
+	 * @param techniciansList List of technicians to assign
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK
+	 * @param options Scheduling options
+	 * @return the list scheduled daily maintenances of locations and its equipments by technicians
+	 */
+	public static List<DailyScheduleData> extractScheduleMaxNumberOfEquipmentsPerDay(int maxNumberEquipmentsPerDay, Map<Date, Integer> maxNumberEquipmentsForGivenDaysMap, Date startDate, CompactLocationsData compactLocations, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		return extractScheduleMaxNumberOfEquipmentsPerDay(maxNumberEquipmentsPerDay, toLocalDateMap(maxNumberEquipmentsForGivenDaysMap), toLocalDateTime(startDate), new EquipmentAllocator(compactLocations), techniciansList, openBusinessDays, options);
+	}
 
-		while ((remainingOnSite > 0) || (remainingOffSite > 0)) {
-			Date currentDate = calendar.getTime();
+	/**
+	 * Extract the list scheduled daily maintenances based on a maximum number of equipments per day
+	 * @param maxNumberEquipmentsPerDay Maximum number of equipments per day
+	 * @param maxNumberEquipmentsForGivenDaysMap Dictionnary of maximum number of equipments for each given day
+	 * @param startDate Start date for scheduling, the scheduled dates being at the start of the day
+	 * @param locationsList List of locations and its equipments to be scheduled
+	 * @param techniciansList List of technicians to assign
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK
+	 * @param options Scheduling options
+	 * @return the list scheduled daily maintenances of locations and its equipments by technicians
+	 */
+	public static List<DailyScheduleData> extractScheduleMaxNumberOfEquipmentsPerDay(int maxNumberEquipmentsPerDay, Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap, LocalDate startDate, List<LocationData> locationsList, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		// Create the allocation engine of the locations
+		EquipmentAllocator allocator = new EquipmentAllocator(locationsList);
 
-			// Get max equipment limit for current day
-			int currentDayMaxEquipment = maxNumberEquipmentsForGivenDaysMap.containsKey(currentDate) ? maxNumberEquipmentsForGivenDaysMap.get(currentDate) : maxNumberEquipmentsPerDay;
+		List<DailyScheduleData> scheduleList = extractScheduleMaxNumberOfEquipmentsPerDay(maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap, startDate.atStartOfDay(), allocator, techniciansList, openBusinessDays, options);
 
-			// Create schedule for current date
-			DailyScheduleData dailySchedule = new DailyScheduleData(currentDate);
+		// Remove the scheduled equipment from the locations
+		allocator.commit();
 
-			// Initialize technicians maps
-			for (String technician : techniciansList) {
-				dailySchedule.getTechniciansLocationsMap().put(technician, new ArrayList<>());
-			}
+		return scheduleList;
+	}
 
-			scheduleList.add(dailySchedule);
+	/**
+	 * Extract the scheduled daily maintenances based on a maximum number of equipments per day, each day being passed to a consumer as soon as its equipments are distributed to the technicians, so the list of the days is never kept
+	 * @param maxNumberEquipmentsPerDay Maximum number of equipments per day
+	 * @param maxNumberEquipmentsForGivenDaysMap Dictionnary of maximum number of equipments for each given day
+	 * @param startDate Start date for scheduling, the scheduled dates being at the start of the day
+	 * @param locationsList List of locations and its equipments to be scheduled
+	 * @param techniciansList List of technicians to assign
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK
+	 * @param options Scheduling options, the equipments of each day being distributed as soon as the day is scheduled even with the parallel distribution
+	 * @param dailyScheduleConsumer Consumer of each scheduled daily maintenance of locations and its equipments by technicians, in date order
+	 */
+	public static void extractScheduleMaxNumberOfEquipmentsPerDay(int maxNumberEquipmentsPerDay, Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap, LocalDate startDate, List<LocationData> locationsList, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options, Consumer<DailyScheduleData> dailyScheduleConsumer) {
+		// Create the allocation engine of the locations
+		EquipmentAllocator allocator = new EquipmentAllocator(locationsList);
 
-			// Calculate target equipment counts for even distribution
-			int totalRemaining = remainingOnSite + remainingOffSite;
-			int maxToSchedule = Math.min(currentDayMaxEquipment, totalRemaining);
+		new MaxNumberOfEquipmentsPerDayIterator(maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap, startDate.atStartOfDay(), allocator, techniciansList, openBusinessDays, options, true).forEachRemaining(dailyScheduleConsumer);
 
-			// Calculate target numbers for on-site and off-site
-			int targetOnSite = 0;
-			int targetOffSite = 0;
+		// Remove the scheduled equipment from the locations
+		allocator.commit();
+	}
 
-			if ((remainingOnSite > 0) && (remainingOffSite > 0)) {
-				// Both types remaining - try to schedule evenly
-				double ratioOnSite = ((double) remainingOnSite) / ((double) totalRemaining);
-				targetOnSite = (int) Math.ceil(maxToSchedule * ratioOnSite);
-				targetOffSite = maxToSchedule - targetOnSite;
+	/**
+	 * Extract the scheduled daily maintenances based on a maximum number of equipments per day, each day being passed to a consumer as soon as its equipments are distributed to the technicians, so the list of the days is never kept
+	 * @param maxNumberEquipmentsPerDay Maximum number of equipments per day
+	 * @param maxNumberEquipmentsForGivenDaysMap Dictionnary of maximum number of equipments for each given day
+	 * @param startDate Start date for scheduling
+	 * @param compactLocations Compact storage of the locations and its equipments to be scheduled, which is left unchanged, a snapshot being safely scheduled by several threads at once
+	 * @param techniciansList List of technicians to assign
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK
+	 * @param options Scheduling options, the equipments of each day being distributed as soon as the day is scheduled even with the parallel distribution
+	 * @param dailyScheduleConsumer Consumer of each scheduled daily maintenance of locations and its equipments by technicians, in date order
+	 */
+	public static void extractScheduleMaxNumberOfEquipmentsPerDay(int maxNumberEquipmentsPerDay, Map<Date, Integer> maxNumberEquipmentsForGivenDaysMap, Date startDate, CompactLocationsData compactLocations, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options, Consumer<DailyScheduleData> dailyScheduleConsumer) {
+		streamScheduleMaxNumberOfEquipmentsPerDay(maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap, startDate, compactLocations, techniciansList, openBusinessDays, options).forEachOrdered(dailyScheduleConsumer);
+	}
 
-				// Adjust if we don't have enough of either type
-				if (targetOnSite > remainingOnSite) {
-					targetOnSite = remainingOnSite;
-					targetOffSite = Math.min(remainingOffSite, maxToSchedule - targetOnSite);
-				} else if (targetOffSite > remainingOffSite) {
-					targetOffSite = remainingOffSite;
-					targetOnSite = Math.min(remainingOnSite, maxToSchedule - targetOffSite);
-				}
-			} else {
-				// Only one type remaining - allocate all available capacity to it
-				if (remainingOnSite > 0) {
-					targetOnSite = Math.min(maxToSchedule, remainingOnSite);
-				} else {
-					targetOffSite = Math.min(maxToSchedule, remainingOffSite);
-				}
-			}
+	/**
+	 * Stream the scheduled daily maintenances based on a maximum number of equipments per day. The stream is lazy: each day is scheduled and its equipments distributed to the technicians only when the stream requests it.
+	 * @param maxNumberEquipmentsPerDay Maximum number of equipments per day
+	 * @param maxNumberEquipmentsForGivenDaysMap Dictionnary of maximum number of equipments for each given day
+	 * @param startDate Start date for scheduling
+	 * @param compactLocations Compact storage of the locations and its equipments to be scheduled, which is left unchanged, a snapshot being safely scheduled by several threads at once
+	 * @param techniciansList List of technicians to assign
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK
+	 * @param options Scheduling options, the equipments of each day being distributed as soon as the day is scheduled even with the parallel distribution
+	 * @return the sequential stream of the scheduled daily maintenances of locations and its equipments by technicians, in date order
+	 */
+	public static Stream<DailyScheduleData> streamScheduleMaxNumberOfEquipmentsPerDay(int maxNumberEquipmentsPerDay, Map<Date, Integer> maxNumberEquipmentsForGivenDaysMap, Date startDate, CompactLocationsData compactLocations, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		Iterator<DailyScheduleData> iterator = new MaxNumberOfEquipmentsPerDayIterator(maxNumberEquipmentsPerDay, toLocalDateMap(maxNumberEquipmentsForGivenDaysMap), toLocalDateTime(startDate), new EquipmentAllocator(compactLocations), techniciansList, openBusinessDays, options, true);
 
-			// Schedule on-site equipment
-			int onSiteScheduled = scheduleOnSiteEquipmentByPriority(locationsList, dailySchedule, targetOnSite);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
 
-			// If the on-site target has not been reached, then the excess is given to the off-site target.
-			if (onSiteScheduled < targetOnSite) {
-				targetOffSite += (targetOnSite - onSiteScheduled);
-			}
+	/**
+	 * Creates the incremental scheduler of a schedule extracted based on a maximum number of equipments per day, indexing the whole schedule once. The scheduler must be kept and reused for every delta of the schedule: each delta then costs in proportion to its equipments and the placements of its locations, instead of indexing the schedule again.
+	 * @param scheduleList Schedule extracted based on a maximum number of equipments per day, patched in place by the scheduler
+	 * @param maxNumberEquipmentsPerDay Maximum number of equipments per day
+	 * @param maxNumberEquipmentsForGivenDaysMap Dictionnary of maximum number of equipments for given days
+	 * @param startDate Start date of the schedule, used when the schedule is empty
+	 * @param techniciansList List of technicians
+	 * @param openBusinessDays List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK, Monday to Friday being used if empty
+	 * @param options Scheduling options
+	 * @return the incremental scheduler of the schedule
+	 */
+	public static IncrementalScheduler createIncrementalScheduler(List<DailyScheduleData> scheduleList, int maxNumberEquipmentsPerDay, Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap, LocalDate startDate, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		return new IncrementalScheduler(scheduleList, maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap, startDate, techniciansList, openBusinessDays, options);
+	}
 
-			// Schedule off-site equipment
-			int offSiteScheduled = scheduleOffSiteEquipmentByPriority(locationsList, dailySchedule, targetOffSite);
+	/**
+	 * Reschedules incrementally a schedule extracted based on a maximum number of equipments per day, for a delta of added and removed equipments. The schedule of the scheduler is patched in place and the locations of the portfolio are not modified.
+	 * @param incrementalScheduler Incremental scheduler of the schedule, created once by createIncrementalScheduler and reused for all the deltas of the schedule
+	 * @param delta Delta of added and removed equipments
+	 * @return the list of the days of the schedule modified by the delta
+	 */
+	public static List<DailyScheduleData> rescheduleMaxNumberOfEquipmentsPerDay(IncrementalScheduler incrementalScheduler, ScheduleDeltaData delta) {
+		return incrementalScheduler.apply(delta);
+	}
 
-			remainingOnSite -= onSiteScheduled;
-			remainingOffSite -= offSiteScheduled;
+	private static List<DailyScheduleData> extractScheduleMaxNumberOfEquipmentsPerDay(int maxNumberEquipmentsPerDay, Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap, LocalDateTime startDateTime, EquipmentAllocator allocator, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options) {
+		List<DailyScheduleData> scheduleList = new ArrayList<>();
 
-			// Move to next business day
-			do {
-				calendar.add(java.util.Calendar.DAY_OF_MONTH, 1);
-			} while (!isBusinessDay(calendar.get(java.util.Calendar.DAY_OF_WEEK), openBusinessDays));
+		// Distribute locations evenly among technicians for each day as it is scheduled, unless all the days are distributed in parallel
+		new MaxNumberOfEquipmentsPerDayIterator(maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap, startDateTime, allocator, techniciansList, openBusinessDays, options, !options.isParallelDistribution()).forEachRemaining(scheduleList::add);
 
-			// Distribute locations evenly among technicians for the day
-			distributeEquipmentsToTechnicians(dailySchedule, techniciansList);
+		if (options.isParallelDistribution()) {
+			// Distribute locations evenly among technicians for each day
+			distributeEquipmentsToTechnicians(scheduleList, techniciansList, options);
 		}
 
 		return scheduleList;
 	}
 
-	private static boolean isBusinessDay(int dayOfWeek, int[] openBusinessDays) {
-		for (int openDay : openBusinessDays) {
-			if (dayOfWeek == openDay) {
-				return true;
+	static LocalDateTime toLocalDateTime(Date date) {
+		return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+	}
+
+	static Map<LocalDate, Integer> toLocalDateMap(Map<Date, Integer> maxNumberEquipmentsForGivenDaysMap) {
+		Map<LocalDate, Integer> localDateMap = new HashMap<>();
+
+		if (maxNumberEquipmentsForGivenDaysMap != null) {
+			for (Map.Entry<Date, Integer> entry : maxNumberEquipmentsForGivenDaysMap.entrySet()) {
+				localDateMap.put(toLocalDateTime(entry.getKey()).toLocalDate(), entry.getValue());
 			}
 		}
 
-		return false;
+		return localDateMap;
+	}
+
+	static BusinessDayCalendar createBusinessDayCalendar(LocalDate startDate, int[] openBusinessDays, List<String> techniciansList, SchedulingOptionsData options) {
+		TechniciansAvailabilityData techniciansAvailability = options.getTechniciansAvailability();
+
+		if ((techniciansAvailability == null) || techniciansList.isEmpty()) {
+			return new BusinessDayCalendar(startDate, openBusinessDays, options.getHolidaysSet());
+		}
+
+		try {
+			// Skip the days where no technician is available
+			return new BusinessDayCalendar(startDate, BusinessDayCalendar.toDaysOfWeekMask(openBusinessDays), options.getHolidaysSet(), epochDay -> techniciansAvailability.isAnyAvailable(techniciansList, epochDay));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("No technician of " + techniciansList + " available on the open business days from " + startDate, e);
+		}
+	}
+
+	static void initializeTechniciansLocationsMap(DailyScheduleData dailySchedule, List<String> techniciansList, SchedulingOptionsData options) {
+		TechniciansAvailabilityData techniciansAvailability = options.getTechniciansAvailability();
+
+		long epochDay = dailySchedule.getScheduledLocalDate().toEpochDay();
+
+		// Only the technicians available for the day receive locations
+		for (String technician : techniciansList) {
+			if ((techniciansAvailability == null) || techniciansAvailability.isAvailable(technician, epochDay)) {
+				dailySchedule.getTechniciansLocationsMap().put(technician, new ArrayList<>());
+			}
+		}
 	}
 
-	private static int[] getDefaultOpenBusinessDays() {
-		return new int[] { java.util.Calendar.MONDAY, java.util.Calendar.TUESDAY, java.util.Calendar.WEDNESDAY, java.util.Calendar.THURSDAY, java.util.Calendar.FRIDAY };
+	static DailyScheduleData createDailySchedule(LocalDate scheduledLocalDate, LocalTime scheduledTime) {
+		Date scheduledDate = Date.from(scheduledLocalDate.atTime(scheduledTime).atZone(ZoneId.systemDefault()).toInstant());
+
+		return new DailyScheduleData(scheduledDate, scheduledLocalDate);
 	}
 
-	private static void scheduleOnSiteEquipment(LocationData location, List<DailyScheduleData> scheduleList, int targetPerDay, int[] equipmentPerDay) {
-		int onSiteCount = location.getOnSiteEquipmentsCount();
+	private static void scheduleOnSiteEquipment(EquipmentAllocator allocator, int index, List<DailyScheduleData> scheduleList, int targetPerDay, DayLoadSelector equipmentPerDay, SchedulingListener listener) {
+		int onSiteCount = allocator.getRemainingOnSiteCount(index);
 
 		if (onSiteCount == 0) {
 			return;
 		}
 
-		// Create a copy of the location with only on-site equipment
-		LocationData onSiteLocation = new LocationData(location.getLocationName());
-		onSiteLocation.getOnSiteEquipmentsList().addAll(location.getOnSiteEquipmentsList());
-
 		if (onSiteCount == 1) {
 			// Find the day with the least equipment
-			int minDay = 0;
-			for (int i = 1; i < equipmentPerDay.length; i++) {
-				if (equipmentPerDay[i] < equipmentPerDay[minDay]) {
-					minDay = i;
-				}
-			}
+			int minDay = equipmentPerDay.getLeastLoadedDay();
 
 			// Schedule single equipment on the day with least equipment
-			scheduleList.get(minDay).getTechniciansLocationsMap().values().iterator().next().add(onSiteLocation);
-			location.getOnSiteEquipmentsList().clear();
-			equipmentPerDay[minDay]++;
+			scheduleList.get(minDay).getTechniciansLocationsMap().values().iterator().next().add(allocator.allocateOnSite(index, 1));
+			equipmentPerDay.addLoad(minDay, 1);
 		} else {
 			// Calculate daily maximum based on 50% rule
-			int maxLocationLimit = (int) Math.ceil(onSiteCount * 0.5);
+			int maxLocationLimit = SplitRule.getFirstDayLimit(onSiteCount);
 			int remainingEquipment = onSiteCount;
+			int firstDay = -1;
 
 			// Try to schedule equipment on days with less equipment first
 			while (remainingEquipment > 0) {
 				// Find the day with the least equipment
-				int minDay = 0;
-				for (int i = 1; i < equipmentPerDay.length; i++) {
-					if (equipmentPerDay[i] < equipmentPerDay[minDay]) {
-						minDay = i;
-					}
-				}
+				int minDay = equipmentPerDay.getLeastLoadedDay();
 
 				// Calculate how many to schedule on this day
 				int toSchedule = Math.min(Math.min(maxLocationLimit, remainingEquipment), targetPerDay);
 				if (toSchedule > 0) {
-					LocationData dayLocation = new LocationData(location.getLocationName());
-					for (int i = 0; i < toSchedule; i++) {
-						String equipment = onSiteLocation.getOnSiteEquipmentsList().get(i);
-						dayLocation.addOnSiteEquipment(equipment);
-					}
-
-					// Remove scheduled equipment
-					onSiteLocation.getOnSiteEquipmentsList().subList(0, toSchedule).clear();
-					location.getOnSiteEquipmentsList().removeAll(dayLocation.getOnSiteEquipmentsList());
+					LocationData dayLocation = allocator.allocateOnSite(index, toSchedule);
 
 					scheduleList.get(minDay).getTechniciansLocationsMap().values().iterator().next().add(dayLocation);
-					equipmentPerDay[minDay] += toSchedule;
+					equipmentPerDay.addLoad(minDay, toSchedule);
 					remainingEquipment -= toSchedule;
+
+					if ((firstDay < 0) && (remainingEquipment > 0) && (scheduleList.size() > 1)) {
+						// The next equipments go to other days, so the first day holds at most the 50% limit
+						firstDay = minDay;
+						equipmentPerDay.addLoad(firstDay, EXCLUDED_LOAD);
+					}
 				} else {
+					if (listener != null) {
+						listener.equipmentsUnscheduled(allocator.getLocationName(index), null, remainingEquipment);
+					}
+
 					break;
 				}
 			}
+
+			if (firstDay >= 0) {
+				equipmentPerDay.addLoad(firstDay, -EXCLUDED_LOAD);
+			}
 		}
 	}
 
-	private static void scheduleOffSiteEquipment(LocationData location, List<DailyScheduleData> scheduleList, int targetPerDay, int[] equipmentPerDay) {
-		if (location.getTotalOffSiteEquipmentsSublocationsCount() == 0) {
+	private static void scheduleOffSiteEquipment(EquipmentAllocator allocator, int index, List<DailyScheduleData> scheduleList, int targetPerDay, DayLoadSelector equipmentPerDay, SchedulingListener listener) {
+		if (allocator.getRemainingOffSiteCount(index) == 0) {
 			return;
 		}
 
-		Map<String, List<String>> sublocationMap = location.getOffSiteEquipmentsSublocationsMap();
+		// Handle each sublocation separately, sorted by equipment count
+		for (int sublocation : allocator.getSublocationsIndexesByDescendingCount(index)) {
+			int equipmentCount = allocator.getRemainingSublocationCount(sublocation);
 
-		// Sort sublocations by equipment count
-		List<Map.Entry<String, List<String>>> sortedSublocations = new ArrayList<>(sublocationMap.entrySet());
-		sortedSublocations.sort((a, b) -> Integer.compare(b.getValue().size(), a.getValue().size()));
-
-		// Handle each sublocation separately
-		for (Map.Entry<String, List<String>> sublocationEntry : sortedSublocations) {
-			String sublocationName = sublocationEntry.getKey();
-			List<String> equipmentList = sublocationEntry.getValue();
-
-			if (equipmentList.size() == 1) {
+			if (equipmentCount == 1) {
 				// Find the day with the least equipment
-				int minDay = 0;
-				for (int i = 1; i < equipmentPerDay.length; i++) {
-					if (equipmentPerDay[i] < equipmentPerDay[minDay]) {
-						minDay = i;
-					}
-				}
+				int minDay = equipmentPerDay.getLeastLoadedDay();
 
 				// Schedule single equipment on the day with least equipment
-				LocationData dayLocation = new LocationData(location.getLocationName());
-				dayLocation.addOffSiteEquipmentToSublocation(sublocationName, equipmentList.get(0));
+				LocationData dayLocation = allocator.createLocation(index);
+				allocator.allocateOffSite(sublocation, 1, dayLocation);
 				scheduleList.get(minDay).getTechniciansLocationsMap().values().iterator().next().add(dayLocation);
-				equipmentList.clear();
-				equipmentPerDay[minDay]++;
-			} else if (!equipmentList.isEmpty()) {
+				equipmentPerDay.addLoad(minDay, 1);
+			} else if (equipmentCount > 0) {
 				// Calculate daily maximum based on 50% rule
-				int maxSublocationLimit = (int) Math.ceil(equipmentList.size() * 0.5);
-				List<String> remainingEquipment = new ArrayList<>(equipmentList);
+				int maxSublocationLimit = SplitRule.getFirstDayLimit(equipmentCount);
+				int remainingEquipment = equipmentCount;
+				int firstDay = -1;
 
 				// Try to schedule equipment on days with less equipment first
-				while (!remainingEquipment.isEmpty()) {
+				while (remainingEquipment > 0) {
 					// Find the day with the least equipment
-					int minDay = 0;
-					for (int i = 1; i < equipmentPerDay.length; i++) {
-						if (equipmentPerDay[i] < equipmentPerDay[minDay]) {
-							minDay = i;
-						}
-					}
+					int minDay = equipmentPerDay.getLeastLoadedDay();
 
 					// Calculate how many to schedule on this day
-					int toSchedule = Math.min(Math.min(maxSublocationLimit, remainingEquipment.size()), targetPerDay);
+					int toSchedule = Math.min(Math.min(maxSublocationLimit, remainingEquipment), targetPerDay);
 					if (toSchedule > 0) {
-						LocationData dayLocation = new LocationData(location.getLocationName());
-						for (int i = 0; i < toSchedule; i++) {
-							dayLocation.addOffSiteEquipmentToSublocation(sublocationName, remainingEquipment.get(i));
-						}
-
-						// Remove scheduled equipment
-						remainingEquipment.subList(0, toSchedule).clear();
-						equipmentList.removeAll(dayLocation.getOffSiteEquipmentsSublocationsMap().get(sublocationName));
+						LocationData dayLocation = allocator.createLocation(index);
+						allocator.allocateOffSite(sublocation, toSchedule, dayLocation);
 
 						scheduleList.get(minDay).getTechniciansLocationsMap().values().iterator().next().add(dayLocation);
-						equipmentPerDay[minDay] += toSchedule;
+						equipmentPerDay.addLoad(minDay, toSchedule);
+						remainingEquipment -= toSchedule;
+
+						if ((firstDay < 0) && (remainingEquipment > 0) && (scheduleList.size() > 1)) {
+							// The next equipments go to other days, so the first day holds at most the 50% limit
+							firstDay = minDay;
+							equipmentPerDay.addLoad(firstDay, EXCLUDED_LOAD);
+						}
 					} else {
+						if (listener != null) {
+							listener.equipmentsUnscheduled(allocator.getLocationName(index), allocator.getSublocationName(sublocation), remainingEquipment);
+						}
+
 						break;
 					}
 				}
+
+				if (firstDay >= 0) {
+					equipmentPerDay.addLoad(firstDay, -EXCLUDED_LOAD);
+				}
 			}
 		}
 	}
 
-	private static int scheduleOnSiteEquipmentForDay(LocationData location, DailyScheduleData dailySchedule, int maxEquipment) {
-		int onSiteCount = location.getOnSiteEquipmentsCount();
+	private static int scheduleOnSiteEquipmentForDay(EquipmentAllocator allocator, int index, DailyScheduleData dailySchedule, int maxEquipment) {
+		int onSiteCount = allocator.getRemainingOnSiteCount(index);
 
-		if (onSiteCount == 0) {
+		// Without capacity, the 50% limit is kept for the first day receiving equipments of the location
+		if ((onSiteCount == 0) || (maxEquipment <= 0)) {
 			return 0;
 		}
 
-		// Create a copy of the location with only on-site equipment
-		LocationData onSiteLocation = new LocationData(location.getLocationName());
-		List<String> equipmentToSchedule = new ArrayList<>(location.getOnSiteEquipmentsList());
-
 		int maxLocationLimit;
 
-		if (location.isSplitRequiredOnSiteEquipments()) {
-			location.setSplitRequiredOnSiteEquipments(false);
+		if (allocator.isSplitRequiredOnSite(index)) {
+			allocator.setSplitRequiredOnSite(index, false);
 
 			// Calculate 50% limit for this location
-			maxLocationLimit = (int) Math.ceil(equipmentToSchedule.size() * 0.5);
+			maxLocationLimit = SplitRule.getFirstDayLimit(onSiteCount);
 		} else {
 			// The 50% limit has already been applied for this location
-			maxLocationLimit = equipmentToSchedule.size();
+			maxLocationLimit = onSiteCount;
 		}
 
 		// Take minimum of global limit, location limit, and available equipment
-		int toSchedule = Math.min(maxEquipment, Math.min(maxLocationLimit, equipmentToSchedule.size()));
+		int toSchedule = Math.min(maxEquipment, Math.min(maxLocationLimit, onSiteCount));
 
 		if (toSchedule > 0) {
-			// Add equipment to the schedule
-			for (int i = 0; i < toSchedule; i++) {
-				onSiteLocation.addOnSiteEquipment(equipmentToSchedule.get(i));
-			}
-
-			// Remove scheduled equipment from the original location
-			location.getOnSiteEquipmentsList().removeAll(onSiteLocation.getOnSiteEquipmentsList());
-
 			// Add location to schedule
-			dailySchedule.getTechniciansLocationsMap().values().iterator().next().add(onSiteLocation);
+			dailySchedule.getTechniciansLocationsMap().values().iterator().next().add(allocator.allocateOnSite(index, toSchedule));
 		}
 
 		return toSchedule;
 	}
 
-	private static int scheduleOffSiteEquipmentForDay(LocationData location, DailyScheduleData dailySchedule, int maxEquipment) {
-		if (location.getTotalOffSiteEquipmentsSublocationsCount() == 0) {
+	private static int scheduleOffSiteEquipmentForDay(EquipmentAllocator allocator, int index, DailyScheduleData dailySchedule, int maxEquipment) {
+		if (allocator.getRemainingOffSiteCount(index) == 0) {
 			return 0;
 		}
 
 		int totalScheduled = 0;
 
-		Map<String, List<String>> sublocationMap = location.getOffSiteEquipmentsSublocationsMap();
-
-		// Convert sublocation entries to a list and sort by equipment count (descending)
-		List<Map.Entry<String, List<String>>> sortedSublocations = new ArrayList<>(sublocationMap.entrySet());
-		sortedSublocations.sort((a, b) -> Integer.compare(b.getValue().size(), a.getValue().size()));
-
 		// Handle each sublocation in order of most equipment
-		for (Map.Entry<String, List<String>> sublocationEntry : sortedSublocations) {
+		for (int sublocation : allocator.getSublocationsIndexesByDescendingCount(index)) {
 			if (maxEquipment <= 0) {
 				break;
 			}
 
-			String sublocationName = sublocationEntry.getKey();
-			List<String> equipmentList = sublocationEntry.getValue();
-
-			if (!equipmentList.isEmpty()) {
-				LocationData dayLocation = new LocationData(location.getLocationName());
-
-				boolean splitRequired = location.getSplitRequiredOffSiteEquipmentsSublocationsMap().get(sublocationName);
+			int equipmentCount = allocator.getRemainingSublocationCount(sublocation);
 
+			if (equipmentCount > 0) {
 				int maxSublocationLimit;
 
-				if (splitRequired) {
-					location.getSplitRequiredOffSiteEquipmentsSublocationsMap().put(sublocationName, Boolean.FALSE);
+				if (allocator.isSplitRequiredOffSite(sublocation)) {
+					allocator.setSplitRequiredOffSite(sublocation, false);
 
 					// Calculate 50% limit for this sublocation
-					maxSublocationLimit = (int) Math.ceil(equipmentList.size() * 0.5);
+					maxSublocationLimit = SplitRule.getFirstDayLimit(equipmentCount);
 				} else {
 					// The 50% limit has already been applied for this location
-					maxSublocationLimit = equipmentList.size();
+					maxSublocationLimit = equipmentCount;
 				}
 
 				// Take minimum of global limit, sublocation limit, and available equipment
-				int toSchedule = Math.min(maxEquipment, Math.min(maxSublocationLimit, equipmentList.size()));
+				int toSchedule = Math.min(maxEquipment, Math.min(maxSublocationLimit, equipmentCount));
 
-				// Schedule equipment for this sublocation
-				for (int i = 0; i < toSchedule; i++) {
-					String equipment = equipmentList.get(0);
-					dayLocation.addOffSiteEquipmentToSublocation(sublocationName, equipment);
-					equipmentList.remove(0);
-				}
+				if (toSchedule > 0) {
+					// Schedule equipment for this sublocation
+					LocationData dayLocation = allocator.createLocation(index);
+					allocator.allocateOffSite(sublocation, toSchedule, dayLocation);
 
-				if (dayLocation.getTotalEquipmentsCount() > 0) {
 					dailySchedule.getTechniciansLocationsMap().values().iterator().next().add(dayLocation);
 					totalScheduled += toSchedule;
 					maxEquipment -= toSchedule;
@@ -470,16 +598,12 @@ public class SchedulingHelper {
 		return totalScheduled;
 	}
 
-	private static int scheduleOnSiteEquipmentByPriority(List<LocationData> locationsList, DailyScheduleData dailySchedule, int targetOnSite) {
-		// Create a sorted list of locations by on-site equipment count (descending)
-		List<LocationData> sortedLocations = new ArrayList<>(locationsList);
-		sortedLocations.sort((a, b) -> Integer.compare(b.getOnSiteEquipmentsCount(), a.getOnSiteEquipmentsCount()));
-
+	private static int scheduleOnSiteEquipmentByPriority(EquipmentAllocator allocator, int[] sortedLocations, DailyScheduleData dailySchedule, int targetOnSite) {
 		int onSiteScheduled = 0;
 
-		for (LocationData location : sortedLocations) {
-			if (location.getOnSiteEquipmentsCount() > 0) {
-				int scheduledForDay = scheduleOnSiteEquipmentForDay(location, dailySchedule, targetOnSite - onSiteScheduled);
+		for (int index : sortedLocations) {
+			if (allocator.getRemainingOnSiteCount(index) > 0) {
+				int scheduledForDay = scheduleOnSiteEquipmentForDay(allocator, index, dailySchedule, targetOnSite - onSiteScheduled);
 				onSiteScheduled += scheduledForDay;
 
 				if (onSiteScheduled >= targetOnSite) {
@@ -491,16 +615,12 @@ public class SchedulingHelper {
 		return onSiteScheduled;
 	}
 
-	private static int scheduleOffSiteEquipmentByPriority(List<LocationData> locationsList, DailyScheduleData dailySchedule, int targetOffSite) {
-		// Create a sorted list of locations by off-site equipment count (descending)
-		List<LocationData> sortedLocations = new ArrayList<>(locationsList);
-		sortedLocations.sort((a, b) -> Integer.compare(b.getTotalOffSiteEquipmentsSublocationsCount(), a.getTotalOffSiteEquipmentsSublocationsCount()));
-
+	private static int scheduleOffSiteEquipmentByPriority(EquipmentAllocator allocator, int[] sortedLocations, DailyScheduleData dailySchedule, int targetOffSite) {
 		int offSiteScheduled = 0;
 
-		for (LocationData location : sortedLocations) {
-			if (location.getTotalOffSiteEquipmentsSublocationsCount() > 0) {
-				int scheduledForDay = scheduleOffSiteEquipmentForDay(location, dailySchedule, targetOffSite - offSiteScheduled);
+		for (int index : sortedLocations) {
+			if (allocator.getRemainingOffSiteCount(index) > 0) {
+				int scheduledForDay = scheduleOffSiteEquipmentForDay(allocator, index, dailySchedule, targetOffSite - offSiteScheduled);
 				offSiteScheduled += scheduledForDay;
 
 				if (offSiteScheduled >= targetOffSite) {
@@ -512,11 +632,82 @@ public class SchedulingHelper {
 		return offSiteScheduled;
 	}
 
-	private static void distributeEquipmentsToTechnicians(DailyScheduleData dailySchedule, List<String> techniciansList) {
-		if (techniciansList.size() <= 1) {
+	private static int scheduleOnSiteEquipmentByPriority(EquipmentAllocator allocator, LocationPriorityQueue onSiteQueue, DailyScheduleData dailySchedule, int targetOnSite) {
+		int onSiteScheduled = 0;
+
+		// Poll the locations by on-site equipment count (descending)
+		while (!onSiteQueue.isEmpty()) {
+			int scheduledForDay = scheduleOnSiteEquipmentForDay(allocator, onSiteQueue.poll(), dailySchedule, targetOnSite - onSiteScheduled);
+			onSiteScheduled += scheduledForDay;
+
+			if (onSiteScheduled >= targetOnSite) {
+				break;
+			}
+		}
+
+		// Put back the consumed locations with their remaining count
+		onSiteQueue.requeuePolled();
+
+		return onSiteScheduled;
+	}
+
+	private static int scheduleOffSiteEquipmentByPriority(EquipmentAllocator allocator, LocationPriorityQueue offSiteQueue, DailyScheduleData dailySchedule, int targetOffSite) {
+		int offSiteScheduled = 0;
+
+		// Poll the locations by off-site equipment count (descending)
+		while (!offSiteQueue.isEmpty()) {
+			int scheduledForDay = scheduleOffSiteEquipmentForDay(allocator, offSiteQueue.poll(), dailySchedule, targetOffSite - offSiteScheduled);
+			offSiteScheduled += scheduledForDay;
+
+			if (offSiteScheduled >= targetOffSite) {
+				break;
+			}
+		}
+
+		// Put back the consumed locations with their remaining count
+		offSiteQueue.requeuePolled();
+
+		return offSiteScheduled;
+	}
+
+	private static void distributeEquipmentsToTechnicians(List<DailyScheduleData> scheduleList, List<String> techniciansList, SchedulingOptionsData options) {
+		long phaseStart = startPhase(options.getListener());
+
+		if (options.isParallelDistribution()) {
+			// The days are independent, so each one is distributed on its own on the pool, which leaves the result deterministic
+			ForkJoinPool forkJoinPool = (options.getForkJoinPool() != null) ? options.getForkJoinPool() : ForkJoinPool.commonPool();
+
+			forkJoinPool.invoke(new DistributeEquipmentsToTechniciansTask(scheduleList, 0, scheduleList.size(), techniciansList, options));
+		} else {
+			for (DailyScheduleData dailySchedule : scheduleList) {
+				distributeEquipmentsToTechnicians(dailySchedule, techniciansList, options);
+			}
+		}
+
+		endPhase(options.getListener(), SchedulingPhase.DISTRIBUTION, phaseStart);
+	}
+
+	private static void distributeEquipmentsToTechnicians(DailyScheduleData dailySchedule, List<String> techniciansList, SchedulingOptionsData options) {
+		// The technicians maps only contain the technicians available for the day
+		if (dailySchedule.getTechniciansLocationsMap().size() <= 1) {
 			return;
 		}
 
+		if (options.getTechnicianDistributionMode() == TechnicianDistributionMode.GROUPED_BY_LOCATION) {
+			distributeLocationRangesToTechnicians(dailySchedule);
+		} else if (options.getTechnicianDistributionMode() == TechnicianDistributionMode.GEOGRAPHIC) {
+			GeographicDistributor.distribute(dailySchedule);
+		} else {
+			distributeEquipmentsToTechnicians(dailySchedule);
+		}
+
+		if (options.getListener() != null) {
+			// Every location of a distributed day has been created by the distribution
+			options.getListener().locationsCreated(SchedulingPhase.DISTRIBUTION, countLocations(dailySchedule));
+		}
+	}
+
+	private static void distributeEquipmentsToTechnicians(DailyScheduleData dailySchedule) {
 		// Phase 1: Equipment Separation
 		// Create separate lists for on-site and off-site equipment
 		// Each piece of equipment gets its own LocationData object for easier distribution
@@ -527,7 +718,7 @@ public class SchedulingHelper {
 			for (LocationData location : locations) {
 				// Split each on-site equipment into its own location
 				for (String onSiteEquipment : location.getOnSiteEquipmentsList()) {
-					LocationData onSiteLocation = new LocationData(location.getLocationName());
+					LocationData onSiteLocation = new LocationData(location.getLocationName(), location.getLatitude(), location.getLongitude());
 					onSiteLocation.addOnSiteEquipment(onSiteEquipment);
 					onSiteLocations.add(onSiteLocation);
 				}
@@ -535,7 +726,7 @@ public class SchedulingHelper {
 				// Split each off-site equipment into its own location
 				for (Map.Entry<String, List<String>> sublocationEntry : location.getOffSiteEquipmentsSublocationsMap().entrySet()) {
 					for (String offSiteEquipment : sublocationEntry.getValue()) {
-						LocationData offSiteLocation = new LocationData(location.getLocationName());
+						LocationData offSiteLocation = new LocationData(location.getLocationName(), location.getLatitude(), location.getLongitude());
 						offSiteLocation.addOffSiteEquipmentToSublocation(sublocationEntry.getKey(), offSiteEquipment);
 						offSiteLocations.add(offSiteLocation);
 					}
@@ -547,12 +738,203 @@ public class SchedulingHelper {
 		// Calculate how many equipments each technician should get
 		int totalOnSite = onSiteLocations.size();
 		int totalOffSite = offSiteLocations.size();
-		int numTechnicians = techniciansList.size();
-		
-		int total = totalOnSite + totalOffSite;
-		
-		System.out.println("--> " + total);
+		int numTechnicians = dailySchedule.getTechniciansLocationsMap().size();
+
+		int[][] distributionByTechnician = calculateDistributionByTechnician(totalOnSite, totalOffSite, numTechnicians);
+
+		// Phase 3: Equipment Assignment
+		// Assign equipment to technicians based on calculated distribution
+		int technicianIndex = 0;
+		int onSiteIndex = 0; // Track position in onSiteLocations list
+		int offSiteIndex = 0; // Track position in offSiteLocations list
+
+		for (List<LocationData> locations : dailySchedule.getTechniciansLocationsMap().values()) {
+			// Clear existing assignments for this technician
+			locations.clear();
+
+			// Assign on-site equipment first
+			for (int i = 0; i < distributionByTechnician[0][technicianIndex]; i++) {
+				locations.add(onSiteLocations.get(onSiteIndex++));
+			}
+
+			// Then assign off-site equipment
+			for (int i = 0; i < distributionByTechnician[1][technicianIndex]; i++) {
+				locations.add(offSiteLocations.get(offSiteIndex++));
+			}
+
+			technicianIndex++;
+		}
+	}
+
+	private static void distributeLocationRangesToTechnicians(DailyScheduleData dailySchedule) {
+		// Phase 1: Equipment Ranges
+		// Keep the scheduled locations of the day as the source of consecutive on-site and off-site equipment ranges
+		List<LocationData> dayLocations = new ArrayList<>();
+
+		int totalOnSite = 0;
+		int totalOffSite = 0;
+
+		for (List<LocationData> locations : dailySchedule.getTechniciansLocationsMap().values()) {
+			for (LocationData location : locations) {
+				dayLocations.add(location);
+				totalOnSite += location.getOnSiteEquipmentsCount();
+				totalOffSite += location.getTotalOffSiteEquipmentsSublocationsCount();
+			}
+		}
+
+		// Phase 2: Distribution Calculation
+		// Calculate how many equipments each technician should get
+		int[][] distributionByTechnician = calculateDistributionByTechnician(totalOnSite, totalOffSite, dailySchedule.getTechniciansLocationsMap().size());
+
+		// Phase 3: Range Assignment
+		// Assign to each technician the next range of equipment, materialized as one location per technician per location name
+		Map<String, LocationData> technicianLocationsMap = new HashMap<>();
+
+		int technicianIndex = 0;
+
+		int onSiteLocationIndex = 0; // Location of the next on-site equipment
+		int onSiteOffset = 0; // Position of the next on-site equipment in its location
+
+		int offSiteLocationIndex = 0; // Location of the next off-site equipment
+		Iterator<Map.Entry<String, List<String>>> sublocationsIterator = null; // Sublocations of the location of the next off-site equipment
+		Map.Entry<String, List<String>> sublocationEntry = null; // Sublocation of the next off-site equipment
+		int offSiteOffset = 0; // Position of the next off-site equipment in its sublocation
+
+		for (List<LocationData> locations : dailySchedule.getTechniciansLocationsMap().values()) {
+			// Clear existing assignments for this technician
+			locations.clear();
+			technicianLocationsMap.clear();
+
+			// Assign on-site equipment first
+			int onSiteToAssign = distributionByTechnician[0][technicianIndex];
+
+			while (onSiteToAssign > 0) {
+				LocationData location = dayLocations.get(onSiteLocationIndex);
+
+				int count = Math.min(onSiteToAssign, location.getOnSiteEquipmentsCount() - onSiteOffset);
+
+				if (count > 0) {
+					LocationData technicianLocation = getTechnicianLocation(technicianLocationsMap, locations, location);
+
+					for (int i = 0; i < count; i++) {
+						technicianLocation.addOnSiteEquipment(location.getOnSiteEquipmentsList().get(onSiteOffset + i));
+					}
+
+					onSiteOffset += count;
+					onSiteToAssign -= count;
+				}
+
+				if (onSiteOffset == location.getOnSiteEquipmentsCount()) {
+					onSiteLocationIndex++;
+					onSiteOffset = 0;
+				}
+			}
+
+			// Then assign off-site equipment
+			int offSiteToAssign = distributionByTechnician[1][technicianIndex];
+
+			while (offSiteToAssign > 0) {
+				LocationData location = dayLocations.get(offSiteLocationIndex);
+
+				if (sublocationsIterator == null) {
+					sublocationsIterator = location.getOffSiteEquipmentsSublocationsMap().entrySet().iterator();
+				}
+
+				if ((sublocationEntry == null) || (offSiteOffset == sublocationEntry.getValue().size())) {
+					if (sublocationsIterator.hasNext()) {
+						sublocationEntry = sublocationsIterator.next();
+						offSiteOffset = 0;
+					} else {
+						// Move to the next location
+						offSiteLocationIndex++;
+						sublocationsIterator = null;
+						sublocationEntry = null;
+						continue;
+					}
+				}
+
+				int count = Math.min(offSiteToAssign, sublocationEntry.getValue().size() - offSiteOffset);
+
+				if (count > 0) {
+					LocationData technicianLocation = getTechnicianLocation(technicianLocationsMap, locations, location);
+
+					for (int i = 0; i < count; i++) {
+						technicianLocation.addOffSiteEquipmentToSublocation(sublocationEntry.getKey(), sublocationEntry.getValue().get(offSiteOffset + i));
+					}
+
+					offSiteOffset += count;
+					offSiteToAssign -= count;
+				}
+			}
+
+			technicianIndex++;
+		}
+	}
+
+	static LocationData getTechnicianLocation(Map<String, LocationData> technicianLocationsMap, List<LocationData> technicianLocations, LocationData location) {
+		LocationData technicianLocation = technicianLocationsMap.get(location.getLocationName());
+
+		if (technicianLocation == null) {
+			technicianLocation = new LocationData(location.getLocationName(), location.getLatitude(), location.getLongitude());
+			technicianLocationsMap.put(location.getLocationName(), technicianLocation);
+			technicianLocations.add(technicianLocation);
+		}
+
+		return technicianLocation;
+	}
+
+	private static long startPhase(SchedulingListener listener) {
+		return (listener != null) ? System.nanoTime() : 0L;
+	}
+
+	private static long endPhase(SchedulingListener listener, SchedulingPhase phase, long phaseStart) {
+		if (listener == null) {
+			return 0L;
+		}
+
+		long phaseEnd = System.nanoTime();
+		listener.phaseCompleted(phase, phaseEnd - phaseStart);
+
+		return phaseEnd;
+	}
+
+	private static void endAllocation(SchedulingListener listener, EquipmentAllocator allocator, List<DailyScheduleData> scheduleList, long phaseStart) {
+		if (listener == null) {
+			return;
+		}
+
+		endPhase(listener, SchedulingPhase.ALLOCATION, phaseStart);
+
+		listener.locationsCreated(SchedulingPhase.ALLOCATION, allocator.getCreatedLocationsCount());
+
+		for (DailyScheduleData dailySchedule : scheduleList) {
+			listener.dayScheduled(dailySchedule.getScheduledLocalDate(), countEquipments(dailySchedule));
+		}
+	}
+
+	private static int countLocations(DailyScheduleData dailySchedule) {
+		int count = 0;
+
+		for (List<LocationData> locations : dailySchedule.getTechniciansLocationsMap().values()) {
+			count += locations.size();
+		}
+
+		return count;
+	}
+
+	private static int countEquipments(DailyScheduleData dailySchedule) {
+		int count = 0;
+
+		for (List<LocationData> locations : dailySchedule.getTechniciansLocationsMap().values()) {
+			for (LocationData location : locations) {
+				count += location.getTotalEquipmentsCount();
+			}
+		}
+
+		return count;
+	}
 
+	private static int[][] calculateDistributionByTechnician(int totalOnSite, int totalOffSite, int numTechnicians) {
 		// Create array to store distribution:
 		// distributionByTechnician[0] = on-site equipment counts
 		// distributionByTechnician[1] = off-site equipment counts
@@ -589,27 +971,251 @@ public class SchedulingHelper {
 			}
 		}
 
-		// Phase 3: Equipment Assignment
-		// Assign equipment to technicians based on calculated distribution
-		int technicianIndex = 0;
-		int onSiteIndex = 0; // Track position in onSiteLocations list
-		int offSiteIndex = 0; // Track position in offSiteLocations list
+		return distributionByTechnician;
+	}
 
-		for (List<LocationData> locations : dailySchedule.getTechniciansLocationsMap().values()) {
-			// Clear existing assignments for this technician
-			locations.clear();
+	/**
+	 * Iterator of the scheduled daily maintenances based on a maximum number of equipments per day, each day being scheduled when requested
+	 */
+	private static class MaxNumberOfEquipmentsPerDayIterator implements Iterator<DailyScheduleData> {
+		/** Maximum number of equipments per day **/
+		private final int maxNumberEquipmentsPerDay;
 
-			// Assign on-site equipment first
-			for (int i = 0; i < distributionByTechnician[0][technicianIndex]; i++) {
-				locations.add(onSiteLocations.get(onSiteIndex++));
+		/** Dictionnary of maximum number of equipments for each given day **/
+		private final Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap;
+
+		/** Scheduled time of each day **/
+		private final LocalTime scheduledTime;
+
+		/** Allocation engine of the locations **/
+		private final EquipmentAllocator allocator;
+
+		/** List of technicians to assign **/
+		private final List<String> techniciansList;
+
+		/** Scheduling options **/
+		private final SchedulingOptionsData options;
+
+		/** Indicator to distribute the equipments of each day to the technicians before returning it **/
+		private final boolean distributeEachDay;
+
+		/** Calendar of the open business days **/
+		private final BusinessDayCalendar calendar;
+
+		/** Priority queue of the locations by remaining on-site equipment count, null when sorting the locations for each day **/
+		private final LocationPriorityQueue onSiteQueue;
+
+		/** Priority queue of the locations by remaining off-site equipment count, null when sorting the locations for each day **/
+		private final LocationPriorityQueue offSiteQueue;
+
+		/** Remaining number of on-site equipments to schedule **/
+		private int remainingOnSite;
+
+		/** Remaining number of off-site equipments to schedule **/
+		private int remainingOffSite;
+
+		/** Index of the next open business day **/
+		private int day;
+
+		MaxNumberOfEquipmentsPerDayIterator(int maxNumberEquipmentsPerDay, Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap, LocalDateTime startDateTime, EquipmentAllocator allocator, List<String> techniciansList, int[] openBusinessDays, SchedulingOptionsData options, boolean distributeEachDay) {
+			this.maxNumberEquipmentsPerDay = maxNumberEquipmentsPerDay;
+			this.maxNumberEquipmentsForGivenDaysMap = (maxNumberEquipmentsForGivenDaysMap != null) ? maxNumberEquipmentsForGivenDaysMap : new HashMap<>();
+			this.scheduledTime = startDateTime.toLocalTime();
+			this.allocator = allocator;
+			this.techniciansList = techniciansList;
+			this.options = options;
+			this.distributeEachDay = distributeEachDay;
+
+			long phaseStart = startPhase(options.getListener());
+
+			// Create calendar of the open business days, Monday to Friday being used if openBusinessDays is empty
+			this.calendar = createBusinessDayCalendar(startDateTime.toLocalDate(), openBusinessDays, techniciansList, options);
+
+			// Calculate total number of equipment to schedule
+			for (int index = 0; index < allocator.getLocationsCount(); index++) {
+				remainingOnSite += allocator.getRemainingOnSiteCount(index);
+				remainingOffSite += allocator.getRemainingOffSiteCount(index);
 			}
 
-			// Then assign off-site equipment
-			for (int i = 0; i < distributionByTechnician[1][technicianIndex]; i++) {
-				locations.add(offSiteLocations.get(offSiteIndex++));
+			phaseStart = endPhase(options.getListener(), SchedulingPhase.CALENDAR, phaseStart);
+
+			// Create the priority queues of the locations by remaining equipment count, updated in place as locations are consumed
+			if (options.isLocationPriorityHeap()) {
+				this.onSiteQueue = new LocationPriorityQueue(allocator.getLocationsCount(), allocator::getRemainingOnSiteCount);
+				this.offSiteQueue = new LocationPriorityQueue(allocator.getLocationsCount(), allocator::getRemainingOffSiteCount);
+			} else {
+				this.onSiteQueue = null;
+				this.offSiteQueue = null;
 			}
 
-			technicianIndex++;
+			endPhase(options.getListener(), SchedulingPhase.SORTING, phaseStart);
+
+			this.day = 0;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			// Create schedules until all equipment is allocated
+			return (remainingOnSite > 0) || (remainingOffSite > 0);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public DailyScheduleData next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			SchedulingListener listener = options.getListener();
+			long phaseStart = startPhase(listener);
+			int createdLocationsCount = allocator.getCreatedLocationsCount();
+
+			LocalDate currentDate = calendar.getOpenDate(day++);
+
+			// Get max equipment limit for current day
+			Integer currentDayMaxEquipment = maxNumberEquipmentsForGivenDaysMap.get(currentDate);
+
+			if (currentDayMaxEquipment == null) {
+				currentDayMaxEquipment = maxNumberEquipmentsPerDay;
+			}
+
+			// Create schedule for current date
+			DailyScheduleData dailySchedule = createDailySchedule(currentDate, scheduledTime);
+
+			// Initialize technicians maps
+			initializeTechniciansLocationsMap(dailySchedule, techniciansList, options);
+
+			// Calculate target equipment counts for even distribution
+			int totalRemaining = remainingOnSite + remainingOffSite;
+			int maxToSchedule = Math.min(currentDayMaxEquipment, totalRemaining);
+
+			// Calculate target numbers for on-site and off-site
+			int targetOnSite = 0;
+			int targetOffSite = 0;
+
+			if ((remainingOnSite > 0) && (remainingOffSite > 0)) {
+				// Both types remaining - try to schedule evenly
+				double ratioOnSite = ((double) remainingOnSite) / ((double) totalRemaining);
+				targetOnSite = (int) Math.ceil(maxToSchedule * ratioOnSite);
+				targetOffSite = maxToSchedule - targetOnSite;
+
+				// Adjust if we don't have enough of either type
+				if (targetOnSite > remainingOnSite) {
+					targetOnSite = remainingOnSite;
+					targetOffSite = Math.min(remainingOffSite, maxToSchedule - targetOnSite);
+				} else if (targetOffSite > remainingOffSite) {
+					targetOffSite = remainingOffSite;
+					targetOnSite = Math.min(remainingOnSite, maxToSchedule - targetOffSite);
+				}
+			} else {
+				// Only one type remaining - allocate all available capacity to it
+				if (remainingOnSite > 0) {
+					targetOnSite = Math.min(maxToSchedule, remainingOnSite);
+				} else {
+					targetOffSite = Math.min(maxToSchedule, remainingOffSite);
+				}
+			}
+
+			int[] onSiteSortedLocations = null;
+			int[] offSiteSortedLocations = null;
+
+			if (onSiteQueue == null) {
+				// Create sorted lists of locations by on-site and off-site equipment count (descending), the on-site allocation leaving the off-site counts unchanged
+				long sortStart = startPhase(listener);
+
+				onSiteSortedLocations = allocator.getLocationsIndexesByDescendingCount(allocator::getRemainingOnSiteCount);
+				offSiteSortedLocations = allocator.getLocationsIndexesByDescendingCount(allocator::getRemainingOffSiteCount);
+
+				// The sort is excluded from the allocation time of the day
+				phaseStart += endPhase(listener, SchedulingPhase.SORTING, sortStart) - sortStart;
+			}
+
+			// Schedule on-site equipment
+			int onSiteScheduled = (onSiteQueue != null) ? scheduleOnSiteEquipmentByPriority(allocator, onSiteQueue, dailySchedule, targetOnSite) : scheduleOnSiteEquipmentByPriority(allocator, onSiteSortedLocations, dailySchedule, targetOnSite);
+
+			// If the on-site target has not been reached, then the excess is given to the off-site target.
+			if (onSiteScheduled < targetOnSite) {
+				targetOffSite += (targetOnSite - onSiteScheduled);
+			}
+
+			// Schedule off-site equipment
+			int offSiteScheduled = (offSiteQueue != null) ? scheduleOffSiteEquipmentByPriority(allocator, offSiteQueue, dailySchedule, targetOffSite) : scheduleOffSiteEquipmentByPriority(allocator, offSiteSortedLocations, dailySchedule, targetOffSite);
+
+			remainingOnSite -= onSiteScheduled;
+			remainingOffSite -= offSiteScheduled;
+
+			if (listener != null) {
+				phaseStart = endPhase(listener, SchedulingPhase.ALLOCATION, phaseStart);
+
+				listener.locationsCreated(SchedulingPhase.ALLOCATION, allocator.getCreatedLocationsCount() - createdLocationsCount);
+				listener.dayScheduled(currentDate, onSiteScheduled + offSiteScheduled);
+			}
+
+			// Distribute locations evenly among technicians for the day
+			if (distributeEachDay) {
+				distributeEquipmentsToTechnicians(dailySchedule, techniciansList, options);
+
+				endPhase(listener, SchedulingPhase.DISTRIBUTION, phaseStart);
+			}
+
+			return dailySchedule;
+		}
+	}
+
+	/**
+	 * Task distributing a range of days of a schedule among the technicians, split in halves on a fork/join pool
+	 */
+	private static class DistributeEquipmentsToTechniciansTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		/** Maximum number of days distributed by a task without splitting it **/
+		private static final int DAYS_THRESHOLD = 4;
+
+		/** List of scheduled daily maintenances **/
+		private final List<DailyScheduleData> scheduleList;
+
+		/** Index of the first day to distribute **/
+		private final int fromDay;
+
+		/** Index of the last day to distribute (exclusive) **/
+		private final int toDay;
+
+		/** List of technicians to assign **/
+		private final List<String> techniciansList;
+
+		/** Scheduling options **/
+		private final SchedulingOptionsData options;
+
+		DistributeEquipmentsToTechniciansTask(List<DailyScheduleData> scheduleList, int fromDay, int toDay, List<String> techniciansList, SchedulingOptionsData options) {
+			this.scheduleList = scheduleList;
+			this.fromDay = fromDay;
+			this.toDay = toDay;
+			this.techniciansList = techniciansList;
+			this.options = options;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.RecursiveAction#compute()
+		 */
+		@Override
+		protected void compute() {
+			if (toDay - fromDay <= DAYS_THRESHOLD) {
+				for (int day = fromDay; day < toDay; day++) {
+					distributeEquipmentsToTechnicians(scheduleList.get(day), techniciansList, options);
+				}
+			} else {
+				int middleDay = (fromDay + toDay) >>> 1;
+
+				invokeAll(new DistributeEquipmentsToTechniciansTask(scheduleList, fromDay, middleDay, techniciansList, options), new DistributeEquipmentsToTechniciansTask(scheduleList, middleDay, toDay, techniciansList, options));
+			}
 		}
 	}
 }
@@ -0,0 +1,123 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import generators.LocationsGenerator;
+import schedules.SchedulingHelper;
+import schedules.data.CompactLocationsData;
+import schedules.data.DailyScheduleData;
+import schedules.data.SchedulingOptionsData;
+
+/**
+ * JMH benchmarks of the extract methods of the scheduling engine, on seeded generated locations.
+ * <p>
+ * The locations are kept in a compact storage, which is never modified by the extract methods, so the same locations are scheduled by each invocation without any setup being measured. Run with: java -jar benchmarks.jar -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulingJmhBenchmark {
+	/** Seed of the generated locations **/
+	private static final long SEED = 20250101L;
+
+	/**
+	 * Locations and technicians shared by the benchmarks
+	 */
+	@State(Scope.Benchmark)
+	public static class LocationsState {
+		/** Number of locations to generate **/
+		@Param({ "100", "1000", "10000", "100000" })
+		public int locationsCount;
+
+		/** Number of technicians **/
+		@Param({ "1", "3", "10" })
+		public int techniciansCount;
+
+		/** Compact storage of the generated locations **/
+		public CompactLocationsData compactLocations;
+
+		/** List of technicians **/
+		public List<String> techniciansList;
+
+		/** Start date of the schedules **/
+		public Date startDate;
+
+		/** Scheduling options **/
+		public SchedulingOptionsData options;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			compactLocations = CompactLocationsData.fromLocationsList(LocationsGenerator.generateLocationsList(locationsCount, SEED));
+
+			techniciansList = new ArrayList<>(techniciansCount);
+
+			for (int technicianId = 1; technicianId <= techniciansCount; technicianId++) {
+				techniciansList.add(String.format("T%d", technicianId));
+			}
+
+			startDate = new Date();
+			options = new SchedulingOptionsData();
+		}
+	}
+
+	/**
+	 * Number of days of the schedules extracted for a fix number of days
+	 */
+	@State(Scope.Benchmark)
+	public static class FixNumberOfDaysState {
+		/** Number of days **/
+		@Param({ "5", "20", "60" })
+		public int numberOfDays;
+	}
+
+	/**
+	 * Maximum number of equipments per day of the schedules extracted for a maximum number of equipments per day
+	 */
+	@State(Scope.Benchmark)
+	public static class MaxNumberOfEquipmentsPerDayState {
+		/** Maximum number of equipments per day **/
+		@Param({ "50", "200", "1000" })
+		public int maxNumberEquipmentsPerDay;
+	}
+
+	@Benchmark
+	public List<DailyScheduleData> extractScheduleFixNumberOfDays(LocationsState locationsState, FixNumberOfDaysState fixNumberOfDaysState) {
+		return SchedulingHelper.extractScheduleFixNumberOfDays(fixNumberOfDaysState.numberOfDays, locationsState.startDate, locationsState.compactLocations, locationsState.techniciansList, null, locationsState.options);
+	}
+
+	@Benchmark
+	public List<DailyScheduleData> extractScheduleMaxNumberOfEquipmentsPerDay(LocationsState locationsState, MaxNumberOfEquipmentsPerDayState maxNumberOfEquipmentsPerDayState) {
+		return SchedulingHelper.extractScheduleMaxNumberOfEquipmentsPerDay(maxNumberOfEquipmentsPerDayState.maxNumberEquipmentsPerDay, null, locationsState.startDate, locationsState.compactLocations, locationsState.techniciansList, null, locationsState.options);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(SchedulingJmhBenchmark.class.getSimpleName()) //
+				.addProfiler("gc") //
+				.build();
+
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,43 @@
+package schedules.data;
+
+import java.time.LocalDate;
+
+/**
+ * Listener of the events of the scheduling of the daily maintenance, set in the scheduling options to record metrics. Nothing is measured when no listener is set.
+ * <p>
+ * The methods are called by the scheduling thread, except locationsCreated which is called by the threads of the fork/join pool with the parallel distribution, so a listener used with the parallel distribution must be thread-safe.
+ */
+public interface SchedulingListener {
+	/**
+	 * Called when a phase of the scheduling is completed, a phase being completed once per scheduled day when the days are scheduled one by one
+	 * @param phase Completed phase
+	 * @param elapsedNanos Elapsed time of the phase in nanoseconds
+	 */
+	default void phaseCompleted(SchedulingPhase phase, long elapsedNanos) {
+	}
+
+	/**
+	 * Called when locations are created for the scheduled days, by the allocation of the equipments or by their distribution to the technicians
+	 * @param phase Phase creating the locations
+	 * @param count Number of created locations
+	 */
+	default void locationsCreated(SchedulingPhase phase, int count) {
+	}
+
+	/**
+	 * Called when the equipments of a day are allocated, before their distribution to the technicians
+	 * @param date Scheduled date
+	 * @param load Number of equipments scheduled for the day
+	 */
+	default void dayScheduled(LocalDate date, int load) {
+	}
+
+	/**
+	 * Called when equipments of a location are left unscheduled by the greedy balancing of a schedule based on a fix number of days
+	 * @param locationName Location name
+	 * @param sublocationName Sublocation name, null for on-site equipments
+	 * @param count Number of unscheduled equipments
+	 */
+	default void equipmentsUnscheduled(String locationName, String sublocationName, int count) {
+	}
+}
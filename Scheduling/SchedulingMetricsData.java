@@ -0,0 +1,167 @@
+package schedules.data;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the scheduling of the daily maintenance, recorded as a thread-safe scheduling listener. A same instance accumulates the metrics of several schedules until it is reset.
+ */
+public class SchedulingMetricsData implements SchedulingListener {
+	/** Elapsed time in nanoseconds of each phase, by phase ordinal **/
+	private final AtomicLongArray phasesNanos;
+
+	/** Number of created locations of each phase, by phase ordinal **/
+	private final AtomicLongArray phasesLocationsCreatedCounts;
+
+	/** Number of scheduled days **/
+	private final LongAdder daysCount;
+
+	/** Number of scheduled equipments **/
+	private final LongAdder equipmentsPlacedCount;
+
+	/** Number of equipments left unscheduled **/
+	private final LongAdder equipmentsUnscheduledCount;
+
+	/** Width of the buckets of the histogram of the day loads **/
+	private final int loadBucketWidth;
+
+	/** Histogram of the day loads, as the number of days by lower bound of the bucket of their load **/
+	private final ConcurrentSkipListMap<Integer, Integer> dayLoadsHistogram;
+
+	public SchedulingMetricsData() {
+		this(1);
+	}
+
+	public SchedulingMetricsData(int loadBucketWidth) {
+		if (loadBucketWidth <= 0) {
+			throw new IllegalArgumentException("Invalid load bucket width " + loadBucketWidth);
+		}
+
+		this.phasesNanos = new AtomicLongArray(SchedulingPhase.values().length);
+		this.phasesLocationsCreatedCounts = new AtomicLongArray(SchedulingPhase.values().length);
+		this.daysCount = new LongAdder();
+		this.equipmentsPlacedCount = new LongAdder();
+		this.equipmentsUnscheduledCount = new LongAdder();
+		this.loadBucketWidth = loadBucketWidth;
+		this.dayLoadsHistogram = new ConcurrentSkipListMap<>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.data.SchedulingListener#phaseCompleted(schedules.data.SchedulingPhase, long)
+	 */
+	@Override
+	public void phaseCompleted(SchedulingPhase phase, long elapsedNanos) {
+		phasesNanos.addAndGet(phase.ordinal(), elapsedNanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.data.SchedulingListener#locationsCreated(schedules.data.SchedulingPhase, int)
+	 */
+	@Override
+	public void locationsCreated(SchedulingPhase phase, int count) {
+		phasesLocationsCreatedCounts.addAndGet(phase.ordinal(), count);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.data.SchedulingListener#dayScheduled(java.time.LocalDate, int)
+	 */
+	@Override
+	public void dayScheduled(LocalDate date, int load) {
+		daysCount.increment();
+		equipmentsPlacedCount.add(load);
+		dayLoadsHistogram.merge((load / loadBucketWidth) * loadBucketWidth, 1, Integer::sum);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see schedules.data.SchedulingListener#equipmentsUnscheduled(java.lang.String, java.lang.String, int)
+	 */
+	@Override
+	public void equipmentsUnscheduled(String locationName, String sublocationName, int count) {
+		equipmentsUnscheduledCount.add(count);
+	}
+
+	/**
+	 * Resets all the metrics
+	 */
+	public void reset() {
+		for (int phase = 0; phase < phasesNanos.length(); phase++) {
+			phasesNanos.set(phase, 0);
+			phasesLocationsCreatedCounts.set(phase, 0);
+		}
+
+		daysCount.reset();
+		equipmentsPlacedCount.reset();
+		equipmentsUnscheduledCount.reset();
+		dayLoadsHistogram.clear();
+	}
+
+	public long getPhaseNanos(SchedulingPhase phase) {
+		return phasesNanos.get(phase.ordinal());
+	}
+
+	public long getLocationsCreatedCount(SchedulingPhase phase) {
+		return phasesLocationsCreatedCounts.get(phase.ordinal());
+	}
+
+	public long getLocationsCreatedCount() {
+		long count = 0;
+
+		for (int phase = 0; phase < phasesLocationsCreatedCounts.length(); phase++) {
+			count += phasesLocationsCreatedCounts.get(phase);
+		}
+
+		return count;
+	}
+
+	public long getDaysCount() {
+		return daysCount.sum();
+	}
+
+	public long getEquipmentsPlacedCount() {
+		return equipmentsPlacedCount.sum();
+	}
+
+	public long getEquipmentsUnscheduledCount() {
+		return equipmentsUnscheduledCount.sum();
+	}
+
+	public int getLoadBucketWidth() {
+		return loadBucketWidth;
+	}
+
+	/**
+	 * Extracts the read-only histogram of the day loads
+	 * @return the number of days by lower bound of the bucket of their load, sorted by load
+	 */
+	public NavigableMap<Integer, Integer> getDayLoadsHistogram() {
+		return Collections.unmodifiableNavigableMap(dayLoadsHistogram);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+
+		for (SchedulingPhase phase : SchedulingPhase.values()) {
+			builder.append(phase).append(": ").append(getPhaseNanos(phase) / 1_000_000.0).append(" ms, ").append(getLocationsCreatedCount(phase)).append(" locations; ");
+		}
+
+		builder.append("days: ").append(getDaysCount());
+		builder.append(", placed: ").append(getEquipmentsPlacedCount());
+		builder.append(", unscheduled: ").append(getEquipmentsUnscheduledCount());
+		builder.append(", day loads: ").append(dayLoadsHistogram);
+
+		return builder.toString();
+	}
+}
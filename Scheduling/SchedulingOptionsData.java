@@ -0,0 +1,134 @@
+package schedules.data;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Options of the scheduling of the daily maintenance of locations and its equipments by technicians
+ */
+public class SchedulingOptionsData {
+	/** Indicator to select the least loaded day with a min-heap instead of a linear scan over the days **/
+	private boolean dayLoadHeap;
+
+	/** Indicator to select the locations by priority with a max-heap updated in place instead of sorting the locations for each day **/
+	private boolean locationPriorityHeap;
+
+	/** Distribution mode of the equipments of a day to the technicians **/
+	private TechnicianDistributionMode technicianDistributionMode;
+
+	/** Indicator to distribute the equipments of the days to the technicians in parallel **/
+	private boolean parallelDistribution;
+
+	/** Fork/join pool of the parallel distribution, the common pool being used when null **/
+	private ForkJoinPool forkJoinPool;
+
+	/** Holidays excluded from the open business days **/
+	private Set<LocalDate> holidaysSet;
+
+	/** Availability index of the technicians, all the technicians being available every day when null **/
+	private TechniciansAvailabilityData techniciansAvailability;
+
+	/** Balancing mode of the equipments over the days of a schedule based on a fix number of days **/
+	private DayBalancingMode dayBalancingMode;
+
+	/** Time budget in milliseconds of the local search repair of the balancing mode DayBalancingMode.LPT_LOCAL_SEARCH **/
+	private long balancingTimeBudgetMillis;
+
+	/** Listener of the scheduling events recording metrics, nothing being measured when null **/
+	private SchedulingListener listener;
+
+	public SchedulingOptionsData() {
+		this.dayLoadHeap = false;
+		this.locationPriorityHeap = true;
+		this.technicianDistributionMode = TechnicianDistributionMode.PER_EQUIPMENT;
+		this.parallelDistribution = false;
+		this.forkJoinPool = null;
+		this.holidaysSet = new HashSet<>();
+		this.techniciansAvailability = null;
+		this.dayBalancingMode = DayBalancingMode.GREEDY;
+		this.balancingTimeBudgetMillis = 100;
+		this.listener = null;
+	}
+
+	public boolean isDayLoadHeap() {
+		return dayLoadHeap;
+	}
+
+	public void setDayLoadHeap(boolean dayLoadHeap) {
+		this.dayLoadHeap = dayLoadHeap;
+	}
+
+	public boolean isLocationPriorityHeap() {
+		return locationPriorityHeap;
+	}
+
+	public void setLocationPriorityHeap(boolean locationPriorityHeap) {
+		this.locationPriorityHeap = locationPriorityHeap;
+	}
+
+	public TechnicianDistributionMode getTechnicianDistributionMode() {
+		return technicianDistributionMode;
+	}
+
+	public void setTechnicianDistributionMode(TechnicianDistributionMode technicianDistributionMode) {
+		this.technicianDistributionMode = technicianDistributionMode;
+	}
+
+	public boolean isParallelDistribution() {
+		return parallelDistribution;
+	}
+
+	public void setParallelDistribution(boolean parallelDistribution) {
+		this.parallelDistribution = parallelDistribution;
+	}
+
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	public Set<LocalDate> getHolidaysSet() {
+		return holidaysSet;
+	}
+
+	public void setHolidaysSet(Set<LocalDate> holidaysSet) {
+		this.holidaysSet = holidaysSet;
+	}
+
+	public TechniciansAvailabilityData getTechniciansAvailability() {
+		return techniciansAvailability;
+	}
+
+	public void setTechniciansAvailability(TechniciansAvailabilityData techniciansAvailability) {
+		this.techniciansAvailability = techniciansAvailability;
+	}
+
+	public DayBalancingMode getDayBalancingMode() {
+		return dayBalancingMode;
+	}
+
+	public void setDayBalancingMode(DayBalancingMode dayBalancingMode) {
+		this.dayBalancingMode = dayBalancingMode;
+	}
+
+	public long getBalancingTimeBudgetMillis() {
+		return balancingTimeBudgetMillis;
+	}
+
+	public void setBalancingTimeBudgetMillis(long balancingTimeBudgetMillis) {
+		this.balancingTimeBudgetMillis = balancingTimeBudgetMillis;
+	}
+
+	public SchedulingListener getListener() {
+		return listener;
+	}
+
+	public void setListener(SchedulingListener listener) {
+		this.listener = listener;
+	}
+}
@@ -0,0 +1,18 @@
+package schedules.data;
+
+/**
+ * Phases of the scheduling of the daily maintenance, timed by a scheduling listener
+ */
+public enum SchedulingPhase {
+	/** Creation of the calendar of the open business days and of the scheduled days **/
+	CALENDAR,
+
+	/** Sort of the locations by equipment count, or creation of their priority queues **/
+	SORTING,
+
+	/** Allocation of the equipments of the locations to the scheduled days **/
+	ALLOCATION,
+
+	/** Distribution of the equipments of the scheduled days to the technicians **/
+	DISTRIBUTION;
+}
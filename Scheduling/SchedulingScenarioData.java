@@ -0,0 +1,107 @@
+package schedules.data;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parameters of a what-if scheduling scenario, based on a fix number of days when the number of days is set, otherwise based on a maximum number of equipments per day
+ */
+public class SchedulingScenarioData {
+	/** Scenario name **/
+	private final String scenarioName;
+
+	/** Number of days, 0 for a scenario based on a maximum number of equipments per day **/
+	private int numberOfDays;
+
+	/** Maximum number of equipments per day **/
+	private int maxNumberEquipmentsPerDay;
+
+	/** Dictionnary of maximum number of equipments for each given day **/
+	private Map<Date, Integer> maxNumberEquipmentsForGivenDaysMap;
+
+	/** Start date for scheduling **/
+	private Date startDate;
+
+	/** List of technicians to assign **/
+	private List<String> techniciansList;
+
+	/** List of open business days based on the constant field values for java.util.Calendar.DAY_OF_WEEK, Monday to Friday being used if empty **/
+	private int[] openBusinessDays;
+
+	/** Scheduling options **/
+	private SchedulingOptionsData options;
+
+	public SchedulingScenarioData(String scenarioName) {
+		this.scenarioName = scenarioName;
+		this.numberOfDays = 0;
+		this.maxNumberEquipmentsPerDay = 0;
+		this.maxNumberEquipmentsForGivenDaysMap = new HashMap<>();
+		this.startDate = new Date();
+		this.techniciansList = new ArrayList<>();
+		this.openBusinessDays = new int[0];
+		this.options = new SchedulingOptionsData();
+	}
+
+	public String getScenarioName() {
+		return scenarioName;
+	}
+
+	public int getNumberOfDays() {
+		return numberOfDays;
+	}
+
+	public void setNumberOfDays(int numberOfDays) {
+		this.numberOfDays = numberOfDays;
+	}
+
+	public int getMaxNumberEquipmentsPerDay() {
+		return maxNumberEquipmentsPerDay;
+	}
+
+	public void setMaxNumberEquipmentsPerDay(int maxNumberEquipmentsPerDay) {
+		this.maxNumberEquipmentsPerDay = maxNumberEquipmentsPerDay;
+	}
+
+	public Map<Date, Integer> getMaxNumberEquipmentsForGivenDaysMap() {
+		return maxNumberEquipmentsForGivenDaysMap;
+	}
+
+	public void setMaxNumberEquipmentsForGivenDaysMap(Map<Date, Integer> maxNumberEquipmentsForGivenDaysMap) {
+		this.maxNumberEquipmentsForGivenDaysMap = maxNumberEquipmentsForGivenDaysMap;
+	}
+
+	public Date getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(Date startDate) {
+		this.startDate = startDate;
+	}
+
+	public List<String> getTechniciansList() {
+		return techniciansList;
+	}
+
+	public void setTechniciansList(List<String> techniciansList) {
+		this.techniciansList = techniciansList;
+	}
+
+	public int[] getOpenBusinessDays() {
+		return openBusinessDays;
+	}
+
+	public void setOpenBusinessDays(int[] openBusinessDays) {
+		this.openBusinessDays = openBusinessDays;
+	}
+
+	public SchedulingOptionsData getOptions() {
+		return options;
+	}
+
+	public void setOptions(SchedulingOptionsData options) {
+		this.options = options;
+	}
+}
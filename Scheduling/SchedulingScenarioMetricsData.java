@@ -0,0 +1,100 @@
+package schedules.data;
+
+import java.util.Map;
+
+/**
+ * Summary metrics of the schedule of a what-if scheduling scenario
+ */
+public class SchedulingScenarioMetricsData {
+	/** Scenario of the metrics **/
+	private final SchedulingScenarioData scenario;
+
+	/** Number of scheduled days **/
+	private final int daysCount;
+
+	/** Number of scheduled equipments **/
+	private final int equipmentsCount;
+
+	/** Maximum number of equipments of a day **/
+	private final int maxDayLoad;
+
+	/** Minimum number of equipments of a day **/
+	private final int minDayLoad;
+
+	/** Dictionnary of technicians and associated number of equipments over all the days **/
+	private final Map<String, Integer> techniciansLoadsMap;
+
+	/** Maximum number of equipments of a technician over all the days **/
+	private final int maxTechnicianLoad;
+
+	/** Minimum number of equipments of a technician over all the days **/
+	private final int minTechnicianLoad;
+
+	/** Time taken by the scheduling, in nanoseconds **/
+	private final long elapsedNanos;
+
+	public SchedulingScenarioMetricsData(SchedulingScenarioData scenario, int daysCount, int equipmentsCount, int maxDayLoad, int minDayLoad, Map<String, Integer> techniciansLoadsMap, int maxTechnicianLoad, int minTechnicianLoad, long elapsedNanos) {
+		this.scenario = scenario;
+		this.daysCount = daysCount;
+		this.equipmentsCount = equipmentsCount;
+		this.maxDayLoad = maxDayLoad;
+		this.minDayLoad = minDayLoad;
+		this.techniciansLoadsMap = techniciansLoadsMap;
+		this.maxTechnicianLoad = maxTechnicianLoad;
+		this.minTechnicianLoad = minTechnicianLoad;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Extracts the spread of the number of equipments between the technicians
+	 * @return the difference between the maximum and the minimum number of equipments of a technician
+	 */
+	public int getTechniciansSpread() {
+		return maxTechnicianLoad - minTechnicianLoad;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s: days=%d, equipments=%d, day load=[%d..%d], technician load=[%d..%d], time=%.1f ms", scenario.getScenarioName(), daysCount, equipmentsCount, minDayLoad, maxDayLoad, minTechnicianLoad, maxTechnicianLoad, elapsedNanos / 1_000_000.0);
+	}
+
+	public SchedulingScenarioData getScenario() {
+		return scenario;
+	}
+
+	public int getDaysCount() {
+		return daysCount;
+	}
+
+	public int getEquipmentsCount() {
+		return equipmentsCount;
+	}
+
+	public int getMaxDayLoad() {
+		return maxDayLoad;
+	}
+
+	public int getMinDayLoad() {
+		return minDayLoad;
+	}
+
+	public Map<String, Integer> getTechniciansLoadsMap() {
+		return techniciansLoadsMap;
+	}
+
+	public int getMaxTechnicianLoad() {
+		return maxTechnicianLoad;
+	}
+
+	public int getMinTechnicianLoad() {
+		return minTechnicianLoad;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+}
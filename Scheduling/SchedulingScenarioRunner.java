@@ -0,0 +1,156 @@
+package schedules;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import schedules.data.CompactLocationsData;
+import schedules.data.DailyScheduleData;
+import schedules.data.LocationData;
+import schedules.data.SchedulingScenarioData;
+import schedules.data.SchedulingScenarioMetricsData;
+
+/**
+ * Runner of what-if scheduling scenarios, evaluated in parallel on a fork/join pool over one shared read-only snapshot of the locations. Only the summary metrics of each scenario are kept, the schedule of a scenario being released as soon as its metrics are computed.
+ */
+public class SchedulingScenarioRunner {
+	/** Snapshot of the locations and its equipments shared by all the scenarios **/
+	private final CompactLocationsData locationsSnapshot;
+
+	/** Fork/join pool running the scenarios **/
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * Constructor using the common pool
+	 * @param locationsList List of locations and its equipments to be scheduled, which is left unchanged
+	 */
+	public SchedulingScenarioRunner(List<LocationData> locationsList) {
+		this(CompactLocationsData.snapshotOf(locationsList), null);
+	}
+
+	/**
+	 * Constructor
+	 * @param compactLocations Compact storage of the locations and its equipments to be scheduled, a snapshot being created if needed
+	 * @param forkJoinPool Fork/join pool running the scenarios, the common pool being used when null
+	 */
+	public SchedulingScenarioRunner(CompactLocationsData compactLocations, ForkJoinPool forkJoinPool) {
+		this.locationsSnapshot = compactLocations.toSnapshot();
+		this.forkJoinPool = (forkJoinPool != null) ? forkJoinPool : ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Evaluates scenarios in parallel
+	 * @param scenariosList List of scenarios
+	 * @return the list of the metrics of each scenario, in the order of the scenarios
+	 */
+	public List<SchedulingScenarioMetricsData> run(List<SchedulingScenarioData> scenariosList) {
+		List<ForkJoinTask<SchedulingScenarioMetricsData>> tasksList = new ArrayList<>(scenariosList.size());
+
+		for (SchedulingScenarioData scenario : scenariosList) {
+			tasksList.add(forkJoinPool.submit(() -> evaluate(scenario)));
+		}
+
+		List<SchedulingScenarioMetricsData> metricsList = new ArrayList<>(tasksList.size());
+
+		for (ForkJoinTask<SchedulingScenarioMetricsData> task : tasksList) {
+			metricsList.add(task.join());
+		}
+
+		return metricsList;
+	}
+
+	/**
+	 * Evaluates scenarios in parallel, streaming the metrics of each scenario as soon as it is evaluated
+	 * @param scenariosList List of scenarios
+	 * @param metricsConsumer Consumer of the metrics, in the order of completion of the scenarios, called by one thread at a time
+	 */
+	public void run(List<SchedulingScenarioData> scenariosList, Consumer<SchedulingScenarioMetricsData> metricsConsumer) {
+		List<ForkJoinTask<?>> tasksList = new ArrayList<>(scenariosList.size());
+
+		for (SchedulingScenarioData scenario : scenariosList) {
+			tasksList.add(forkJoinPool.submit(() -> {
+				SchedulingScenarioMetricsData metrics = evaluate(scenario);
+
+				synchronized (metricsConsumer) {
+					metricsConsumer.accept(metrics);
+				}
+			}));
+		}
+
+		for (ForkJoinTask<?> task : tasksList) {
+			task.join();
+		}
+	}
+
+	/**
+	 * Evaluates a scenario in the calling thread
+	 * @param scenario Scenario
+	 * @return the metrics of the scenario
+	 * @throws IllegalArgumentException if neither the number of days nor the maximum number of equipments per day is positive
+	 */
+	public SchedulingScenarioMetricsData evaluate(SchedulingScenarioData scenario) {
+		if ((scenario.getNumberOfDays() <= 0) && (scenario.getMaxNumberEquipmentsPerDay() <= 0)) {
+			// A scenario without any day limit would never schedule its equipments
+			throw new IllegalArgumentException("Invalid scenario " + scenario.getScenarioName() + ": number of days " + scenario.getNumberOfDays() + " and maximum number of equipments per day " + scenario.getMaxNumberEquipmentsPerDay());
+		}
+
+		long start = System.nanoTime();
+
+		List<DailyScheduleData> scheduleList;
+
+		if (scenario.getNumberOfDays() > 0) {
+			scheduleList = SchedulingHelper.extractScheduleFixNumberOfDays(scenario.getNumberOfDays(), scenario.getStartDate(), locationsSnapshot, scenario.getTechniciansList(), scenario.getOpenBusinessDays(), scenario.getOptions());
+		} else {
+			scheduleList = SchedulingHelper.extractScheduleMaxNumberOfEquipmentsPerDay(scenario.getMaxNumberEquipmentsPerDay(), scenario.getMaxNumberEquipmentsForGivenDaysMap(), scenario.getStartDate(), locationsSnapshot, scenario.getTechniciansList(), scenario.getOpenBusinessDays(), scenario.getOptions());
+		}
+
+		long elapsedNanos = System.nanoTime() - start;
+
+		return computeMetrics(scenario, scheduleList, elapsedNanos);
+	}
+
+	private static SchedulingScenarioMetricsData computeMetrics(SchedulingScenarioData scenario, List<DailyScheduleData> scheduleList, long elapsedNanos) {
+		Map<String, Integer> techniciansLoadsMap = new LinkedHashMap<>();
+
+		for (String technician : scenario.getTechniciansList()) {
+			techniciansLoadsMap.put(technician, 0);
+		}
+
+		int equipmentsCount = 0;
+		int maxDayLoad = 0;
+		int minDayLoad = scheduleList.isEmpty() ? 0 : Integer.MAX_VALUE;
+
+		for (DailyScheduleData dailySchedule : scheduleList) {
+			int dayLoad = 0;
+
+			for (Map.Entry<String, List<LocationData>> technicianLocationsEntry : dailySchedule.getTechniciansLocationsMap().entrySet()) {
+				int technicianLoad = 0;
+
+				for (LocationData location : technicianLocationsEntry.getValue()) {
+					technicianLoad += location.getTotalEquipmentsCount();
+				}
+
+				techniciansLoadsMap.merge(technicianLocationsEntry.getKey(), technicianLoad, Integer::sum);
+				dayLoad += technicianLoad;
+			}
+
+			equipmentsCount += dayLoad;
+			maxDayLoad = Math.max(maxDayLoad, dayLoad);
+			minDayLoad = Math.min(minDayLoad, dayLoad);
+		}
+
+		int maxTechnicianLoad = 0;
+		int minTechnicianLoad = techniciansLoadsMap.isEmpty() ? 0 : Integer.MAX_VALUE;
+
+		for (int technicianLoad : techniciansLoadsMap.values()) {
+			maxTechnicianLoad = Math.max(maxTechnicianLoad, technicianLoad);
+			minTechnicianLoad = Math.min(minTechnicianLoad, technicianLoad);
+		}
+
+		return new SchedulingScenarioMetricsData(scenario, scheduleList.size(), equipmentsCount, maxDayLoad, minDayLoad, techniciansLoadsMap, maxTechnicianLoad, minTechnicianLoad, elapsedNanos);
+	}
+}
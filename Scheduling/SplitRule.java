@@ -0,0 +1,21 @@
+package schedules;
+
+/**
+ * 50% rule of the equipments requiring a split, shared by the scheduling and the validation of the schedules.
+ * <p>
+ * The on-site equipments of a location and the off-site equipments of a sublocation requiring a split are never all scheduled on the first day holding them: that day holds at most 50% of them, rounded up, and the remaining equipments are then free to be scheduled on the next days.
+ */
+final class SplitRule {
+
+	private SplitRule() {
+	}
+
+	/**
+	 * Maximum number of equipments of a group requiring a split on the first day holding them
+	 * @param equipmentsCount Number of equipments of the on-site equipments of a location or of the off-site equipments of a sublocation when they are first scheduled
+	 * @return the maximum number of equipments on the first day, all the equipments when there is only one
+	 */
+	static int getFirstDayLimit(int equipmentsCount) {
+		return (equipmentsCount > 1) ? (int) Math.ceil(equipmentsCount * 0.5) : equipmentsCount;
+	}
+}
@@ -0,0 +1,115 @@
+package schedules.data;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionnary of strings shared by compact data, where each distinct string is stored once and is referenced by an int identifier
+ */
+public class StringDictionaryData {
+	/** Strings by identifier **/
+	private String[] strings;
+
+	/** Number of strings **/
+	private int size;
+
+	/** Dictionnary of strings and associated identifier, shared with the snapshots and never modified once shared **/
+	private Map<String, Integer> identifiersMap;
+
+	/** Indicator of a dictionnary of strings and associated identifier shared with a snapshot, copied before adding a string **/
+	private boolean identifiersMapShared;
+
+	/** Indicator of a snapshot, to which no string can be added **/
+	private final boolean snapshot;
+
+	public StringDictionaryData() {
+		this.strings = new String[64];
+		this.size = 0;
+		this.identifiersMap = new HashMap<>();
+		this.identifiersMapShared = false;
+		this.snapshot = false;
+	}
+
+	private StringDictionaryData(StringDictionaryData dictionary) {
+		this.strings = Arrays.copyOf(dictionary.strings, dictionary.size);
+		this.size = dictionary.size;
+		this.identifiersMap = dictionary.identifiersMap;
+		this.identifiersMapShared = true;
+		this.snapshot = true;
+	}
+
+	/**
+	 * Creates an immutable copy of the dictionnary, which can be read concurrently. The dictionnary of strings and associated identifier is shared with the snapshot, and copied by this dictionnary when it adds its next string.
+	 * @return the snapshot of the dictionnary
+	 */
+	public StringDictionaryData toSnapshot() {
+		if (snapshot) {
+			return this;
+		}
+
+		identifiersMapShared = true;
+
+		return new StringDictionaryData(this);
+	}
+
+	/**
+	 * Extracts the identifier of a string, adding the string to the dictionnary if not already present
+	 * @param string String to add
+	 * @return the identifier of the string
+	 * @throws IllegalStateException if the string is not present in a snapshot
+	 */
+	public int intern(String string) {
+		Integer identifier = identifiersMap.get(string);
+
+		if (identifier != null) {
+			return identifier;
+		}
+
+		if (snapshot) {
+			throw new IllegalStateException("String " + string + " not present in snapshot");
+		}
+
+		if (size == strings.length) {
+			strings = Arrays.copyOf(strings, size * 2);
+		}
+
+		if (identifiersMapShared) {
+			identifiersMap = new HashMap<>(identifiersMap);
+			identifiersMapShared = false;
+		}
+
+		strings[size] = string;
+		identifiersMap.put(string, size);
+
+		return size++;
+	}
+
+	/**
+	 * Extracts the identifier of a string
+	 * @param string String to find
+	 * @return the identifier of the string or -1 if not present
+	 */
+	public int getIdentifier(String string) {
+		Integer identifier = identifiersMap.get(string);
+
+		return (identifier != null) ? identifier : -1;
+	}
+
+	/**
+	 * Extracts the string of an identifier
+	 * @param identifier Identifier of the string
+	 * @return the string
+	 */
+	public String getString(int identifier) {
+		return strings[identifier];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isSnapshot() {
+		return snapshot;
+	}
+}
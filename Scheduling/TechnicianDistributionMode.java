@@ -0,0 +1,15 @@
+package schedules.data;
+
+/**
+ * Distribution modes of the equipments of a scheduled day to the technicians
+ */
+public enum TechnicianDistributionMode {
+	/** Each equipment is assigned to a technician as its own location **/
+	PER_EQUIPMENT,
+
+	/** Consecutive ranges of equipments are assigned to each technician and grouped as one location per technician per location name **/
+	GROUPED_BY_LOCATION,
+
+	/** Geographic clusters of locations are assigned to the technicians from the coordinates of the locations, with balanced numbers of equipments **/
+	GEOGRAPHIC;
+}
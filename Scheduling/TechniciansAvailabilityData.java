@@ -0,0 +1,143 @@
+package schedules.data;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Availability index of the technicians, as a technician by day bitset of the days where a technician is absent. A technician is available on every day not set as absent, and a technician missing from the index is always available.
+ * <p>
+ * The bitsets are indexed by epoch day, so the absence days must be from 1970-01-01, the days before only following the weekly absences.
+ */
+public class TechniciansAvailabilityData {
+	/** Dictionnary of technician names and associated index **/
+	private final Map<String, Integer> techniciansIndexesMap;
+
+	/** Absence epoch days of each technician, by technician index **/
+	private final BitSet[] absenceDaysBitSets;
+
+	/** Bitmask of the weekly absence days of week of each technician, by technician index, the bit (DayOfWeek.getValue() - 1) being set for an absence **/
+	private final int[] absenceDaysOfWeekMasks;
+
+	/**
+	 * Constructor
+	 * @param techniciansList List of technicians of the index
+	 */
+	public TechniciansAvailabilityData(List<String> techniciansList) {
+		this.techniciansIndexesMap = new HashMap<>();
+		this.absenceDaysBitSets = new BitSet[techniciansList.size()];
+		this.absenceDaysOfWeekMasks = new int[techniciansList.size()];
+
+		for (int index = 0; index < techniciansList.size(); index++) {
+			techniciansIndexesMap.put(techniciansList.get(index), index);
+			absenceDaysBitSets[index] = new BitSet();
+		}
+	}
+
+	/**
+	 * Sets a technician absent for a day, for a vacation day for example
+	 * @param technician Technician name
+	 * @param date Absence day
+	 * @throws IllegalArgumentException if the technician is unknown or if the day is before 1970-01-01
+	 */
+	public void addAbsence(String technician, LocalDate date) {
+		absenceDaysBitSets[getTechnicianIndex(technician)].set(getAbsenceIndex(date));
+	}
+
+	/**
+	 * Sets a technician absent for a period, for vacations for example
+	 * @param technician Technician name
+	 * @param fromDate First absence day
+	 * @param toDate Last absence day (inclusive)
+	 * @throws IllegalArgumentException if the technician is unknown or if a day is before 1970-01-01
+	 */
+	public void addAbsence(String technician, LocalDate fromDate, LocalDate toDate) {
+		absenceDaysBitSets[getTechnicianIndex(technician)].set(getAbsenceIndex(fromDate), getAbsenceIndex(toDate) + 1);
+	}
+
+	/**
+	 * Sets a technician absent every week on some days of week, for a part-time technician for example
+	 * @param technician Technician name
+	 * @param daysOfWeek Weekly absence days of week
+	 */
+	public void addWeeklyAbsence(String technician, DayOfWeek... daysOfWeek) {
+		int index = getTechnicianIndex(technician);
+
+		for (DayOfWeek dayOfWeek : daysOfWeek) {
+			absenceDaysOfWeekMasks[index] |= 1 << (dayOfWeek.getValue() - 1);
+		}
+	}
+
+	/**
+	 * Indicates if a technician is available for a day
+	 * @param technician Technician name
+	 * @param epochDay Epoch day
+	 * @return true if the technician is available
+	 */
+	public boolean isAvailable(String technician, long epochDay) {
+		Integer index = techniciansIndexesMap.get(technician);
+
+		if (index == null) {
+			return true;
+		}
+
+		// The epoch day 0 (1970-01-01) is a Thursday, the index 3 from Monday
+		int dayOfWeekIndex = (int) Math.floorMod(epochDay + 3, 7L);
+
+		if ((absenceDaysOfWeekMasks[index] & (1 << dayOfWeekIndex)) != 0) {
+			return false;
+		}
+
+		// No absence day is set out of the range of the bitsets
+		return (epochDay < 0) || (epochDay >= Integer.MAX_VALUE) || !absenceDaysBitSets[index].get((int) epochDay);
+	}
+
+	/**
+	 * Indicates if a technician is available for a day
+	 * @param technician Technician name
+	 * @param date Day
+	 * @return true if the technician is available
+	 */
+	public boolean isAvailable(String technician, LocalDate date) {
+		return isAvailable(technician, date.toEpochDay());
+	}
+
+	/**
+	 * Indicates if at least one technician of a list is available for a day
+	 * @param techniciansList List of technicians
+	 * @param epochDay Epoch day
+	 * @return true if a technician is available
+	 */
+	public boolean isAnyAvailable(List<String> techniciansList, long epochDay) {
+		for (String technician : techniciansList) {
+			if (isAvailable(technician, epochDay)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private int getAbsenceIndex(LocalDate date) {
+		long epochDay = date.toEpochDay();
+
+		if ((epochDay < 0) || (epochDay >= Integer.MAX_VALUE)) {
+			throw new IllegalArgumentException("Invalid absence day " + date + ", the absence days must be from 1970-01-01");
+		}
+
+		return (int) epochDay;
+	}
+
+	private int getTechnicianIndex(String technician) {
+		Integer index = techniciansIndexesMap.get(technician);
+
+		if (index == null) {
+			throw new IllegalArgumentException("Unknown technician " + technician);
+		}
+
+		return index;
+	}
+}
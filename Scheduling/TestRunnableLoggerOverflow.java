@@ -0,0 +1,89 @@
+package main;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import outils.loggers.RunnableLogger;
+import outils.loggers.RunnableLoggerOverflowPolicy;
+import outils.loggers.data.RunnableLoggerEntryData;
+
+/**
+ * Test the overflow policies evicting the oldest entry while the consumer of the RunnableLogger is blocked in the logging of an entry: each overflowing entry must drop exactly one entry
+ */
+public class TestRunnableLoggerOverflow {
+	/** Capacity of the queue of the tested loggers **/
+	private static final int CAPACITY = 8;
+
+	/** Number of entries logged once the queue is full **/
+	private static final int OVERFLOWING_COUNT = 4;
+
+	public static void main(String[] args) throws InterruptedException {
+		Logger.getLogger(RunnableLogger.class.getName()).setUseParentHandlers(false);
+
+		for (RunnableLoggerOverflowPolicy overflowPolicy : new RunnableLoggerOverflowPolicy[] { RunnableLoggerOverflowPolicy.DROP_OLDEST, RunnableLoggerOverflowPolicy.DROP_BELOW_LEVEL }) {
+			testBlockedConsumer(overflowPolicy);
+		}
+	}
+
+	private static void testBlockedConsumer(RunnableLoggerOverflowPolicy overflowPolicy) throws InterruptedException {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch released = new CountDownLatch(1);
+		AtomicInteger loggedCount = new AtomicInteger();
+
+		RunnableLogger runnableLogger = new RunnableLogger(true, CAPACITY, overflowPolicy) {
+			@Override
+			protected void logEntry(RunnableLoggerEntryData entry) {
+				if ("blocking".equals(entry.getMessage())) {
+					entered.countDown();
+
+					try {
+						released.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				} else {
+					loggedCount.incrementAndGet();
+				}
+			}
+		};
+
+		try {
+			// The SEVERE entry is logged at once and blocks the consumer
+			runnableLogger.log("test", Level.SEVERE, "blocking");
+
+			if (!entered.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException(overflowPolicy + ": the consumer did not log the blocking entry");
+			}
+
+			for (int i = 0; i < CAPACITY; i++) {
+				runnableLogger.log("test", Level.WARNING, "filling " + i);
+			}
+
+			check(overflowPolicy, "full queue", 0, runnableLogger.getDroppedCount());
+
+			for (int i = 1; i <= OVERFLOWING_COUNT; i++) {
+				runnableLogger.log("test", Level.WARNING, "overflowing " + i);
+
+				check(overflowPolicy, "overflowing entry " + i, i, runnableLogger.getDroppedCount());
+			}
+		} finally {
+			released.countDown();
+		}
+
+		runnableLogger.shutdown();
+
+		check(overflowPolicy, "logged entries", CAPACITY, loggedCount.get());
+
+		System.out.println(overflowPolicy + ": " + OVERFLOWING_COUNT + " overflowing entries dropped " + runnableLogger.getDroppedCount() + " entries, " + loggedCount.get() + " entries logged");
+	}
+
+	private static void check(RunnableLoggerOverflowPolicy overflowPolicy, String step, long expected, long actual) {
+		if (expected != actual) {
+			throw new IllegalStateException(overflowPolicy + ", " + step + ": expected " + expected + ", got " + actual);
+		}
+	}
+
+}
@@ -0,0 +1,176 @@
+package main;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import generators.LocationsGenerator;
+import schedules.IncrementalScheduler;
+import schedules.ScheduleValidator;
+import schedules.SchedulingHelper;
+import schedules.data.CompactLocationsData;
+import schedules.data.DailyScheduleData;
+import schedules.data.DayBalancingMode;
+import schedules.data.LocationData;
+import schedules.data.ScheduleDeltaData;
+import schedules.data.ScheduleViolationData;
+import schedules.data.SchedulingOptionsData;
+import schedules.data.TechnicianDistributionMode;
+
+/**
+ * Test the validation of the schedules of every scheduling mode, which must not report any violation
+ */
+public class TestScheduleValidator {
+	/** Numbers of generated locations **/
+	private static final int[] LOCATIONS_COUNTS = { 200, 2000 };
+
+	/** Seed of the generated locations **/
+	private static final long SEED = 7L;
+
+	/** Start date of the schedules **/
+	private static final LocalDate START_DATE = LocalDate.of(2026, 5, 4);
+
+	public static void main(String[] args) {
+		List<String> techniciansList = Arrays.asList("T1", "T2", "T3", "T4", "T5");
+
+		for (int locationsCount : LOCATIONS_COUNTS) {
+			ScheduleValidator validator = new ScheduleValidator(LocationsGenerator.generateLocationsList(locationsCount, SEED));
+
+			for (int numberOfDays : new int[] { 2, 5, 20, 60 }) {
+				for (DayBalancingMode dayBalancingMode : DayBalancingMode.values()) {
+					for (boolean dayLoadHeap : new boolean[] { false, true }) {
+						SchedulingOptionsData options = new SchedulingOptionsData();
+						options.setDayBalancingMode(dayBalancingMode);
+						options.setDayLoadHeap(dayLoadHeap);
+
+						List<DailyScheduleData> scheduleList = SchedulingHelper.extractScheduleFixNumberOfDays(numberOfDays, START_DATE, LocationsGenerator.generateLocationsList(locationsCount, SEED), techniciansList, null, options);
+
+						check(locationsCount + " locations, " + numberOfDays + " days, " + dayBalancingMode + ", day load heap " + dayLoadHeap, validator.validate(scheduleList));
+					}
+				}
+			}
+
+			Map<LocalDate, Integer> maxNumberEquipmentsForGivenDaysMap = new HashMap<>();
+			maxNumberEquipmentsForGivenDaysMap.put(START_DATE, 0);
+			maxNumberEquipmentsForGivenDaysMap.put(START_DATE.plusDays(2), 3);
+
+			for (int maxNumberEquipmentsPerDay : new int[] { 30, 200, 1000 }) {
+				for (TechnicianDistributionMode technicianDistributionMode : TechnicianDistributionMode.values()) {
+					for (boolean locationPriorityHeap : new boolean[] { false, true }) {
+						SchedulingOptionsData options = new SchedulingOptionsData();
+						options.setTechnicianDistributionMode(technicianDistributionMode);
+						options.setLocationPriorityHeap(locationPriorityHeap);
+						options.setParallelDistribution(locationPriorityHeap);
+
+						String mode = locationsCount + " locations, " + maxNumberEquipmentsPerDay + " equipments per day, " + technicianDistributionMode + ", location priority heap " + locationPriorityHeap;
+
+						List<DailyScheduleData> scheduleList = SchedulingHelper.extractScheduleMaxNumberOfEquipmentsPerDay(maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap, START_DATE, LocationsGenerator.generateLocationsList(locationsCount, SEED), techniciansList, null, options);
+
+						check(mode, validator.validate(scheduleList, maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap));
+
+						List<DailyScheduleData> streamedScheduleList = new ArrayList<>();
+
+						SchedulingHelper.extractScheduleMaxNumberOfEquipmentsPerDay(maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap, START_DATE, LocationsGenerator.generateLocationsList(locationsCount, SEED), techniciansList, null, options, streamedScheduleList::add);
+
+						check(mode + ", streamed", validator.validate(streamedScheduleList, maxNumberEquipmentsPerDay, maxNumberEquipmentsForGivenDaysMap));
+					}
+				}
+			}
+
+			CompactLocationsData compactLocations = new LocationsGenerator(SEED).generateCompactLocations(locationsCount);
+
+			List<DailyScheduleData> scheduleList = SchedulingHelper.extractScheduleFixNumberOfDays(20, Date.from(START_DATE.atStartOfDay(ZoneId.systemDefault()).toInstant()), compactLocations, techniciansList, null, new SchedulingOptionsData());
+
+			check(locationsCount + " compact locations, 20 days", new ScheduleValidator(compactLocations).validate(scheduleList));
+
+			Map<Date, Integer> maxNumberEquipmentsForGivenDatesMap = new HashMap<>();
+
+			for (Map.Entry<LocalDate, Integer> entry : maxNumberEquipmentsForGivenDaysMap.entrySet()) {
+				maxNumberEquipmentsForGivenDatesMap.put(Date.from(entry.getKey().atStartOfDay(ZoneId.systemDefault()).toInstant()), entry.getValue());
+			}
+
+			scheduleList = SchedulingHelper.streamScheduleMaxNumberOfEquipmentsPerDay(200, maxNumberEquipmentsForGivenDatesMap, Date.from(START_DATE.atStartOfDay(ZoneId.systemDefault()).toInstant()), compactLocations, techniciansList, null, new SchedulingOptionsData()).collect(Collectors.toList());
+
+			check(locationsCount + " compact locations, 200 equipments per day", new ScheduleValidator(compactLocations).validate(scheduleList, 200, maxNumberEquipmentsForGivenDaysMap));
+
+			// Incremental rescheduling with a larger maximum, so the first days receive equipments, the portfolio receiving the same delta as the schedule
+			List<LocationData> portfolioList = LocationsGenerator.generateLocationsList(locationsCount, SEED);
+
+			scheduleList = SchedulingHelper.extractScheduleMaxNumberOfEquipmentsPerDay(200, null, START_DATE, LocationsGenerator.generateLocationsList(locationsCount, SEED), techniciansList, null, new SchedulingOptionsData());
+
+			IncrementalScheduler incrementalScheduler = SchedulingHelper.createIncrementalScheduler(scheduleList, 250, null, START_DATE, techniciansList, null, new SchedulingOptionsData());
+
+			for (int deltaIndex = 0; deltaIndex < 3; deltaIndex++) {
+				ScheduleDeltaData delta = new ScheduleDeltaData();
+
+				delta.getRemovedLocationsList().add(portfolioList.remove(deltaIndex));
+
+				for (int index = deltaIndex; index < portfolioList.size(); index += 7) {
+					LocationData addedLocation = new LocationData(portfolioList.get(index).getLocationName());
+
+					for (int i = 0; i <= index % 5; i++) {
+						addedLocation.addOnSiteEquipment("A" + deltaIndex + "-" + i);
+						addedLocation.addOffSiteEquipmentToSublocation("Sub" + (1 + (i % 3)), "A" + deltaIndex + "-" + i);
+					}
+
+					addEquipments(portfolioList.get(index), addedLocation);
+
+					delta.getAddedLocationsList().add(addedLocation);
+				}
+
+				LocationData newLocation = new LocationsGenerator(SEED).generateLocation(locationsCount + 1 + deltaIndex);
+
+				delta.getAddedLocationsList().add(newLocation);
+				portfolioList.add(new LocationData(newLocation.getLocationName()));
+				addEquipments(portfolioList.get(portfolioList.size() - 1), newLocation);
+
+				SchedulingHelper.rescheduleMaxNumberOfEquipmentsPerDay(incrementalScheduler, delta);
+
+				check(locationsCount + " locations, delta " + deltaIndex, new ScheduleValidator(portfolioList).validate(scheduleList, 250, null));
+			}
+
+			// A delta removing an unscheduled equipment after a scheduled location must leave the schedule unchanged
+			ScheduleDeltaData invalidDelta = new ScheduleDeltaData();
+			LocationData unscheduledLocation = new LocationData(portfolioList.get(1).getLocationName());
+			unscheduledLocation.addOnSiteEquipment("Unscheduled");
+
+			invalidDelta.getRemovedLocationsList().add(portfolioList.get(0));
+			invalidDelta.getRemovedLocationsList().add(unscheduledLocation);
+
+			try {
+				SchedulingHelper.rescheduleMaxNumberOfEquipmentsPerDay(incrementalScheduler, invalidDelta);
+
+				throw new IllegalStateException(locationsCount + " locations, invalid delta: no exception");
+			} catch (IllegalArgumentException e) {
+				check(locationsCount + " locations, invalid delta", new ScheduleValidator(portfolioList).validate(scheduleList, 250, null));
+			}
+
+			System.out.println(locationsCount + " locations: no violation in every scheduling mode");
+		}
+	}
+
+	private static void addEquipments(LocationData location, LocationData addedLocation) {
+		for (String equipmentName : addedLocation.getOnSiteEquipmentsList()) {
+			location.addOnSiteEquipment(equipmentName);
+		}
+
+		for (Map.Entry<String, List<String>> sublocationEntry : addedLocation.getOffSiteEquipmentsSublocationsMap().entrySet()) {
+			for (String equipmentName : sublocationEntry.getValue()) {
+				location.addOffSiteEquipmentToSublocation(sublocationEntry.getKey(), equipmentName);
+			}
+		}
+	}
+
+	private static void check(String mode, List<ScheduleViolationData> violationsList) {
+		if (!violationsList.isEmpty()) {
+			throw new IllegalStateException(mode + ": " + violationsList.size() + " violations, first " + violationsList.get(0));
+		}
+	}
+
+}